@@ -0,0 +1,64 @@
+package com.eventplanner.benchmark;
+
+import com.eventplanner.dto.AuthResponse;
+import com.eventplanner.dto.LoginRequest;
+import com.eventplanner.entity.User;
+import com.eventplanner.repository.UserRepository;
+import com.eventplanner.security.PasswordHasher;
+import com.eventplanner.security.VerifiedTokenCache;
+import com.eventplanner.service.AuthService;
+import com.eventplanner.service.UserCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login cost with the repository stubbed out, so the figure is BCrypt plus token generation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthServiceLoginBenchmark {
+    
+    private AuthService authService;
+    
+    private LoginRequest loginRequest;
+    
+    @Setup
+    public void setUp() {
+        // Same encoder (default strength) as SecurityConfig
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+        
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail("bench@example.com");
+        user.setPasswordHash(passwordEncoder.encode("password123"));
+        
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+        
+        authService = new AuthService();
+        ReflectionTestUtils.setField(authService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(authService, "passwordEncoder", passwordEncoder);
+        ReflectionTestUtils.setField(authService, "passwordHasher", new PasswordHasher(passwordEncoder, new SimpleMeterRegistry(), 10, 0, 100, 1));
+        ReflectionTestUtils.setField(authService, "jwtUtil", BenchmarkFixtures.jwtUtil(new VerifiedTokenCache(10000)));
+        ReflectionTestUtils.setField(authService, "userCache", new UserCache(userRepository, 10000, Duration.ofMinutes(10)));
+        
+        loginRequest = new LoginRequest(user.getEmail(), "password123");
+    }
+    
+    @Benchmark
+    public AuthResponse login() {
+        return authService.login(loginRequest).join();
+    }
+}
@@ -0,0 +1,76 @@
+package com.eventplanner.benchmark;
+
+import com.eventplanner.entity.Event;
+import com.eventplanner.security.JwtUtil;
+import com.eventplanner.security.TokenDenyList;
+import com.eventplanner.security.VerifiedTokenCache;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Builds the beans under benchmark the same way Spring would, without starting a context.
+ */
+final class BenchmarkFixtures {
+    
+    static final String SECRET = "benchmark-secret-key-for-jmh-runs-only-at-least-256-bits-long";
+    
+    private BenchmarkFixtures() {
+    }
+    
+    static JwtUtil jwtUtil(VerifiedTokenCache verifiedTokenCache) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86400000L);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedTokenCache", verifiedTokenCache);
+        ReflectionTestUtils.setField(jwtUtil, "tokenDenyList", new TokenDenyList(100000));
+        invoke(jwtUtil, "init");
+        return jwtUtil;
+    }
+    
+    static List<Event> events(int count) {
+        UUID userId = UUID.randomUUID();
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Event event = new Event();
+            event.setId(UUID.randomUUID());
+            event.setUserId(userId);
+            event.setTitle("Benchmark Event " + i);
+            event.setDate(LocalDate.now().plusDays(1 + i % 365));
+            event.setBudget(new BigDecimal("1250.50"));
+            event.setDescription("Annual planning meeting with catering and venue booking");
+            event.setAttendeeCount(40 + i % 100);
+            event.setCreatedAt(LocalDateTime.now());
+            event.setUpdatedAt(LocalDateTime.now());
+            events.add(event);
+        }
+        return events;
+    }
+    
+    /** Unsaved events (no id or timestamps) for insert benchmarks. */
+    static List<Event> newEvents(int count) {
+        List<Event> events = events(count);
+        events.forEach(event -> {
+            event.setId(null);
+            event.setCreatedAt(null);
+            event.setUpdatedAt(null);
+        });
+        return events;
+    }
+    
+    private static void invoke(Object target, String methodName) {
+        try {
+            Method method = target.getClass().getDeclaredMethod(methodName);
+            method.setAccessible(true);
+            method.invoke(target);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.eventplanner.benchmark;
+
+import com.eventplanner.EventPlannerApplication;
+import com.eventplanner.entity.Event;
+import com.eventplanner.service.EventService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserting N events through EventService.createEvents (one transaction, JDBC batches)
+ * versus N calls to createEvent, against the in-memory H2 test database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventBatchInsertBenchmark {
+    
+    @Param({"10", "100", "500"})
+    private int size;
+    
+    private ConfigurableApplicationContext context;
+    
+    private EventService eventService;
+    
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(EventPlannerApplication.class)
+                .profiles("test")
+                .properties("server.port=0",
+                            "spring.jpa.show-sql=false",
+                            "logging.level.com.eventplanner=WARN")
+                .run();
+        eventService = context.getBean(EventService.class);
+    }
+    
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+    
+    @Benchmark
+    public List<Event> batchCreate() {
+        return eventService.createEvents(BenchmarkFixtures.newEvents(size));
+    }
+    
+    @Benchmark
+    public int singleCreates() {
+        List<Event> events = BenchmarkFixtures.newEvents(size);
+        for (Event event : events) {
+            eventService.createEvent(event);
+        }
+        return events.size();
+    }
+}
@@ -0,0 +1,94 @@
+package com.eventplanner.benchmark;
+
+import com.eventplanner.dto.EventResponse;
+import com.eventplanner.entity.Event;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Encode/decode cost of an event list in each wire format the API can negotiate.
+ * Payload sizes are printed once per trial (look for "payload:" in the output).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventSerializationBenchmark {
+    
+    private static final TypeReference<List<EventResponse>> EVENT_LIST = new TypeReference<>() {
+    };
+    
+    @Param({"10", "100", "1000", "10000"})
+    private int size;
+    
+    @Param({"json", "cbor", "smile"})
+    private String format;
+    
+    private ObjectMapper objectMapper;
+    
+    private List<Event> events;
+    
+    private List<EventResponse> responses;
+    
+    private byte[] payload;
+    
+    @Setup
+    public void setUp() throws IOException {
+        // Same defaults (JavaTimeModule, no timestamps) as the MVC message converters
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory(format))
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        events = BenchmarkFixtures.events(size);
+        responses = toResponses(events);
+        payload = objectMapper.writeValueAsBytes(responses);
+        System.out.printf("payload: %s x %d events = %d bytes%n", format, size, payload.length);
+    }
+    
+    @Benchmark
+    public List<EventResponse> fromEntity() {
+        return toResponses(events);
+    }
+    
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+    
+    @Benchmark
+    public byte[] fromEntityAndSerialize() throws IOException {
+        return objectMapper.writeValueAsBytes(toResponses(events));
+    }
+    
+    @Benchmark
+    public List<EventResponse> deserialize() throws IOException {
+        return objectMapper.readValue(payload, EVENT_LIST);
+    }
+    
+    private static JsonFactory factory(String format) {
+        return switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+    }
+    
+    private static List<EventResponse> toResponses(List<Event> events) {
+        return events.stream()
+                .map(EventResponse::fromEntity)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,48 @@
+package com.eventplanner.benchmark;
+
+import com.eventplanner.security.JwtUtil;
+import com.eventplanner.security.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+    
+    private JwtUtil jwtUtil;
+    
+    private UUID userId;
+    
+    private String token;
+    
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkFixtures.jwtUtil(new VerifiedTokenCache(10000));
+        userId = UUID.randomUUID();
+        token = jwtUtil.generateToken(userId, "bench@example.com");
+    }
+    
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(userId, "bench@example.com");
+    }
+    
+    /** Repeat validation of the same token; served from the verified-token cache. */
+    @Benchmark
+    public boolean validateTokenCached() {
+        return jwtUtil.validateToken(token);
+    }
+    
+    /** Full parse and signature check, bypassing the cache. */
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtUtil.parseClaims(token);
+    }
+}
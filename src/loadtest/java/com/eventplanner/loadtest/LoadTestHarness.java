@@ -0,0 +1,320 @@
+package com.eventplanner.loadtest;
+
+import com.eventplanner.EventPlannerApplication;
+import com.eventplanner.dto.CreateEventRequest;
+import com.eventplanner.dto.LoginRequest;
+import com.eventplanner.entity.Event;
+import com.eventplanner.entity.User;
+import com.eventplanner.repository.EventRepository;
+import com.eventplanner.repository.UserRepository;
+import com.eventplanner.security.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Boots the application on a random port against an in-memory H2 database (profile
+ * {@code loadtest}), seeds users and events, then drives a weighted mix of login,
+ * session, event list and event create requests from {@code concurrency} workers.
+ * <p>
+ * Latencies go into one HdrHistogram per operation. With {@code --rate} the workers are
+ * paced and each latency is measured from the request's scheduled start, so a stalled
+ * server shows up in the percentiles instead of just lowering the throughput
+ * (coordinated omission). Percentile distributions are written as {@code .hgrm} files.
+ * <p>
+ * Run with: {@code mvn -Pload-test -DskipTests verify} (options in the profile's
+ * {@code loadtest.*} properties), or directly with {@code --users=, --events=,
+ * --concurrency=, --warmup=, --duration=, --rate=, --mix=login:5,session:35,list:50,create:10,
+ * --profiles=, --output=}.
+ */
+public final class LoadTestHarness {
+    
+    private static final String PASSWORD = "password123";
+    
+    private final LoadTestOptions options;
+    
+    private final HttpClient client;
+    
+    private ObjectMapper objectMapper;
+    
+    private String baseUrl;
+    
+    private final List<String> emails = new ArrayList<>();
+    
+    private final List<String> tokens = new ArrayList<>();
+    
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    
+    private final Map<Integer, LongAdder> errorStatuses = new ConcurrentHashMap<>();
+    
+    private volatile boolean measuring;
+    
+    private LoadTestHarness(LoadTestOptions options) {
+        this.options = options;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+    
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        
+        SpringApplicationBuilder application = new SpringApplicationBuilder(EventPlannerApplication.class)
+                .profiles("loadtest");
+        if (!options.profiles.isBlank()) {
+            application.profiles(options.profiles.split(","));
+        }
+        
+        try (ConfigurableApplicationContext context = application.run()) {
+            LoadTestHarness harness = new LoadTestHarness(options);
+            harness.seed(context);
+            harness.run();
+            harness.report();
+        }
+    }
+    
+    /**
+     * Inserts the users (all with the same password, hashed once) and spreads the events
+     * across them, then issues each user a token for the authenticated operations.
+     */
+    private void seed(ConfigurableApplicationContext context) {
+        long start = System.nanoTime();
+        objectMapper = context.getBean(ObjectMapper.class);
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        EventRepository eventRepository = context.getBean(EventRepository.class);
+        JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        
+        List<User> users = new ArrayList<>(options.users);
+        for (int i = 0; i < options.users; i++) {
+            User user = new User();
+            user.setEmail("loadtest-" + i + "@example.com");
+            user.setPasswordHash(passwordHash);
+            users.add(user);
+        }
+        users = userRepository.saveAll(users);
+        for (User user : users) {
+            emails.add(user.getEmail());
+            tokens.add(jwtUtil.generateToken(user.getId(), user.getEmail()));
+        }
+        
+        List<Event> batch = new ArrayList<>();
+        for (int i = 0; i < options.events; i++) {
+            batch.add(newEvent(users.get(i % users.size()).getId(), i));
+            if (batch.size() == 1000 || i == options.events - 1) {
+                eventRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        
+        System.out.printf("Seeded %d users and %d events in %d ms, server at %s%n",
+                options.users, options.events, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), baseUrl);
+    }
+    
+    private void run() throws InterruptedException {
+        System.out.printf("Running mix %s with %d workers%s: %ds warm-up, %ds measured%n",
+                options.getMix(), options.concurrency,
+                options.rate > 0 ? " at " + options.rate + " req/s" : " (closed loop)",
+                options.warmupSeconds, options.durationSeconds);
+        
+        long startAt = System.nanoTime();
+        long measureAt = startAt + TimeUnit.SECONDS.toNanos(options.warmupSeconds);
+        long endAt = measureAt + TimeUnit.SECONDS.toNanos(options.durationSeconds);
+        // Each worker takes an equal share of the target rate
+        long intervalNanos = options.rate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) * options.concurrency / options.rate) : 0;
+        
+        CountDownLatch done = new CountDownLatch(options.concurrency);
+        for (int i = 0; i < options.concurrency; i++) {
+            // Stagger paced workers so they do not fire in lockstep
+            long firstAt = startAt + (intervalNanos * i) / options.concurrency;
+            Thread worker = new Thread(() -> {
+                try {
+                    work(firstAt, intervalNanos, endAt);
+                } finally {
+                    done.countDown();
+                }
+            }, "load-" + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+        
+        LockSupport.parkNanos(measureAt - System.nanoTime());
+        // Drop the warm-up samples
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+        errorStatuses.clear();
+        measuring = true;
+        
+        done.await();
+        measuring = false;
+    }
+    
+    private void work(long firstAt, long intervalNanos, long endAt) {
+        long scheduledAt = firstAt;
+        while (true) {
+            if (intervalNanos > 0) {
+                long wait = scheduledAt - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            } else {
+                scheduledAt = System.nanoTime();
+            }
+            if (scheduledAt >= endAt) {
+                return;
+            }
+            
+            Operation operation = options.nextOperation();
+            int status = send(operation);
+            long latency = System.nanoTime() - scheduledAt;
+            
+            if (measuring) {
+                if (status >= 200 && status < 300) {
+                    recorders.get(operation).recordValue(latency);
+                } else {
+                    errors.get(operation).increment();
+                    errorStatuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+                }
+            }
+            scheduledAt += intervalNanos;
+        }
+    }
+    
+    // Returns the HTTP status, or 0 if the request failed without one
+    private int send(Operation operation) {
+        int user = ThreadLocalRandom.current().nextInt(tokens.size());
+        try {
+            HttpRequest request = switch (operation) {
+                case LOGIN -> json("/api/auth/login", null)
+                        .POST(body(new LoginRequest(emails.get(user), PASSWORD)))
+                        .build();
+                case SESSION -> json("/api/auth/session", tokens.get(user)).GET().build();
+                case LIST_EVENTS -> json("/api/events", tokens.get(user)).GET().build();
+                case CREATE_EVENT -> json("/api/events", tokens.get(user))
+                        .POST(body(newEventRequest()))
+                        .build();
+            };
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+    
+    private HttpRequest.Builder json(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+    
+    private HttpRequest.BodyPublisher body(Object value) throws IOException {
+        return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(value));
+    }
+    
+    private void report() throws IOException {
+        Files.createDirectories(options.output);
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        
+        System.out.println();
+        System.out.printf("%-8s %9s %7s %10s %9s %9s %9s %9s%n",
+                "op", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (Operation operation : options.getMix().keySet()) {
+            Histogram histogram = recorders.get(operation).getIntervalHistogram();
+            long errorCount = errors.get(operation).sum();
+            printRow(operation.getName(), histogram, errorCount);
+            writeDistribution(operation.getName(), histogram);
+            total.add(histogram);
+            totalErrors += errorCount;
+        }
+        printRow("total", total, totalErrors);
+        writeDistribution("total", total);
+        
+        if (!errorStatuses.isEmpty()) {
+            System.out.println("Error statuses (0 = no response): " + errorStatuses);
+        }
+        System.out.println("Percentile distributions written to " + options.output.toAbsolutePath());
+    }
+    
+    private void printRow(String name, Histogram histogram, long errorCount) {
+        System.out.printf("%-8s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                name,
+                histogram.getTotalCount(),
+                errorCount,
+                histogram.getTotalCount() / (double) options.durationSeconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(95)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getMaxValue()));
+    }
+    
+    // HdrHistogram's text format, in milliseconds (plot at hdrhistogram.github.io/HdrHistogram/plotFiles.html)
+    private void writeDistribution(String name, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(options.output.resolve(name + ".hgrm")))) {
+            histogram.outputPercentileDistribution(out, (double) TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+    
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+    
+    private static Event newEvent(UUID userId, int i) {
+        Event event = new Event();
+        event.setUserId(userId);
+        event.setTitle("Load Test Event " + i);
+        event.setDate(LocalDate.now().plusDays(1 + i % 365));
+        event.setBudget(new BigDecimal("1250.50"));
+        event.setDescription("Annual planning meeting with catering and venue booking");
+        event.setAttendeeCount(40 + i % 100);
+        return event;
+    }
+    
+    private static CreateEventRequest newEventRequest() {
+        int day = ThreadLocalRandom.current().nextInt(1, 366);
+        return new CreateEventRequest("Load Test Event", LocalDate.now().plusDays(day),
+                new BigDecimal("500.00"), "Created by the load test", 25);
+    }
+}
@@ -0,0 +1,89 @@
+package com.eventplanner.loadtest;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Command-line options, given as {@code --name=value}. Anything not given keeps its default.
+ */
+final class LoadTestOptions {
+    
+    int users = 100;
+    int events = 2000;
+    int concurrency = 32;
+    int warmupSeconds = 10;
+    int durationSeconds = 30;
+    // Total target rate in requests/s; 0 runs closed-loop (each worker sends as fast as it gets answers)
+    double rate = 0;
+    String profiles = "";
+    Path output = Path.of("target", "loadtest");
+    
+    private final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+    
+    private int totalWeight;
+    
+    private LoadTestOptions() {
+    }
+    
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        
+        LoadTestOptions options = new LoadTestOptions();
+        options.users = Integer.parseInt(values.getOrDefault("users", String.valueOf(options.users)));
+        options.events = Integer.parseInt(values.getOrDefault("events", String.valueOf(options.events)));
+        options.concurrency = Integer.parseInt(values.getOrDefault("concurrency", String.valueOf(options.concurrency)));
+        options.warmupSeconds = Integer.parseInt(values.getOrDefault("warmup", String.valueOf(options.warmupSeconds)));
+        options.durationSeconds = Integer.parseInt(values.getOrDefault("duration", String.valueOf(options.durationSeconds)));
+        options.rate = Double.parseDouble(values.getOrDefault("rate", String.valueOf(options.rate)));
+        options.profiles = values.getOrDefault("profiles", options.profiles);
+        options.output = Path.of(values.getOrDefault("output", options.output.toString()));
+        options.parseMix(values.getOrDefault("mix", "login:5,session:35,list:50,create:10"));
+        
+        if (options.users < 1 || options.concurrency < 1 || options.durationSeconds < 1) {
+            throw new IllegalArgumentException("users, concurrency and duration must be positive");
+        }
+        return options;
+    }
+    
+    // "login:5,session:35" -> relative weights
+    private void parseMix(String spec) {
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation:weight in mix but got: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.parse(parts[0]), weight);
+                totalWeight += weight;
+            }
+        }
+        if (totalWeight == 0) {
+            throw new IllegalArgumentException("The mix needs at least one operation with a positive weight");
+        }
+    }
+    
+    Operation nextOperation() {
+        int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+    
+    Map<Operation, Integer> getMix() {
+        return mix;
+    }
+}
@@ -0,0 +1,34 @@
+package com.eventplanner.loadtest;
+
+import java.util.Locale;
+
+/**
+ * The requests the harness can issue. Names are used in {@code --mix} and in the report.
+ */
+enum Operation {
+    
+    LOGIN("login"),
+    SESSION("session"),
+    LIST_EVENTS("list"),
+    CREATE_EVENT("create");
+    
+    private final String name;
+    
+    Operation(String name) {
+        this.name = name;
+    }
+    
+    String getName() {
+        return name;
+    }
+    
+    static Operation parse(String name) {
+        String normalized = name.trim().toLowerCase(Locale.ROOT);
+        for (Operation operation : values()) {
+            if (operation.name.equals(normalized)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + name);
+    }
+}
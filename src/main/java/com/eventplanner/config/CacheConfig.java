@@ -0,0 +1,25 @@
+package com.eventplanner.config;
+
+import com.eventplanner.service.CaffeineEventReadCache;
+import com.eventplanner.service.EventReadCache;
+import com.eventplanner.service.NoOpEventReadCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+    
+    @Bean
+    public EventReadCache eventReadCache(@Value("${events.cache.enabled:true}") boolean enabled,
+                                         @Value("${events.cache.max-users:10000}") long maxUsers,
+                                         @Value("${events.cache.max-events:50000}") long maxEvents,
+                                         @Value("${events.cache.ttl:30s}") Duration ttl) {
+        if (!enabled) {
+            return new NoOpEventReadCache();
+        }
+        return new CaffeineEventReadCache(maxUsers, maxEvents, ttl);
+    }
+}
@@ -0,0 +1,76 @@
+package com.eventplanner.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.convert.DurationStyle;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache on local Caffeine caches, one per region, each bounded by
+ * {@code hibernate.cache.caffeine.<region>.max-size} and {@code .ttl} (falling back to
+ * {@code hibernate.cache.caffeine.default.*}). Set through {@code spring.jpa.properties},
+ * so it applies wherever Boot builds the EntityManagerFactory, including {@code @DataJpaTest}.
+ * <p>
+ * Every SessionFactory gets a cache manager of its own, so application contexts sharing a
+ * JVM (as in tests) never see each other's entries.
+ */
+public class CaffeineRegionFactory extends JCacheRegionFactory {
+    
+    private static final String PREFIX = "hibernate.cache.caffeine.";
+    
+    private static final long DEFAULT_MAX_SIZE = 10_000;
+    
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+    
+    private Map<String, Object> settings = Map.of();
+    
+    @Override
+    protected CacheManager resolveCacheManager(SessionFactoryOptions options, Map<String, Object> properties) {
+        this.settings = properties;
+        CachingProvider provider = getCachingProvider(Map.of());
+        return provider.getCacheManager(URI.create("eventplanner-l2:" + UUID.randomUUID()), getClassLoader(provider));
+    }
+    
+    @Override
+    protected CachingProvider getCachingProvider(Map<String, Object> properties) {
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+    }
+    
+    @Override
+    protected Cache<Object, Object> createCache(String regionName) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Update timestamps must outlive every cached query result, so that region is not bounded
+        if (!RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME.equals(regionName)) {
+            configuration.setMaximumSize(OptionalLong.of(maxSize(regionName)));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl(regionName).toNanos()));
+        }
+        return getCacheManager().createCache(regionName, configuration);
+    }
+    
+    private long maxSize(String regionName) {
+        Object value = setting(regionName, "max-size");
+        return value != null ? Long.parseLong(value.toString()) : DEFAULT_MAX_SIZE;
+    }
+    
+    private Duration ttl(String regionName) {
+        Object value = setting(regionName, "ttl");
+        return value != null ? DurationStyle.detectAndParse(value.toString()) : DEFAULT_TTL;
+    }
+    
+    private Object setting(String regionName, String key) {
+        Object value = settings.get(PREFIX + regionName + "." + key);
+        return value != null ? value : settings.get(PREFIX + "default." + key);
+    }
+}
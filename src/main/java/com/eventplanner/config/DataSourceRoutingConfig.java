@@ -0,0 +1,128 @@
+package com.eventplanner.config;
+
+import com.eventplanner.datasource.ReadWriteRoutingDataSource;
+import com.eventplanner.datasource.ReadYourWritesInterceptor;
+import com.eventplanner.datasource.ReadYourWritesTracker;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read replicas ({@code datasource.routing.enabled=true}): read-only transactions, including
+ * Spring Data's {@code find*} methods, go to the pools in {@code datasource.routing.replica-urls};
+ * everything else goes to the primary configured with {@code spring.datasource.*}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig implements WebMvcConfigurer {
+    
+    private final ObjectProvider<ReadWriteRoutingDataSource> routingDataSource;
+    
+    private final ObjectProvider<ReadYourWritesTracker> readYourWritesTracker;
+    
+    @Value("${datasource.routing.replica-urls}")
+    private List<String> replicaUrls;
+    
+    @Value("${datasource.routing.replica-username:${spring.datasource.username:}}")
+    private String replicaUsername;
+    
+    @Value("${datasource.routing.replica-password:${spring.datasource.password:}}")
+    private String replicaPassword;
+    
+    @Value("${datasource.routing.replica-pool-size:10}")
+    private int replicaPoolSize;
+    
+    @Value("${datasource.routing.lag-query:}")
+    private String lagQuery;
+    
+    @Value("${datasource.routing.max-lag:5s}")
+    private Duration maxLag;
+    
+    @Value("${datasource.routing.read-your-writes-window:5s}")
+    private Duration readYourWritesWindow;
+    
+    public DataSourceRoutingConfig(ObjectProvider<ReadWriteRoutingDataSource> routingDataSource,
+                                   ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        this.routingDataSource = routingDataSource;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+    
+    /**
+     * The pool Boot would have created from {@code spring.datasource.*}.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+    
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                 DataSourceProperties properties,
+                                                                 MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setJdbcUrl(replicaUrls.get(i));
+            replica.setUsername(replicaUsername);
+            replica.setPassword(replicaPassword);
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setReadOnly(true);
+            // Start even if a replica is down; it is skipped until a health check passes
+            replica.setInitializationFailTimeout(-1);
+            replicas.put(replica.getPoolName(), replica);
+        }
+        
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primaryDataSource, replicas, lagQuery, maxLag);
+        Gauge.builder("datasource.replicas.healthy", routing, ReadWriteRoutingDataSource::getHealthyReplicaCount)
+                .description("Read replicas currently receiving read-only transactions")
+                .register(meterRegistry);
+        return routing;
+    }
+    
+    /**
+     * What JPA, Flyway and JdbcTemplate use. The lazy proxy defers picking a target until the
+     * first statement, by which point the transaction's read-only flag is known.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+    
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(@Value("${datasource.routing.read-your-writes-max-users:100000}") long maxUsers) {
+        return new ReadYourWritesTracker(readYourWritesWindow, maxUsers);
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadYourWritesInterceptor(readYourWritesTracker.getObject()))
+                .addPathPatterns("/api/**");
+    }
+    
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-ms:5000}")
+    public void checkReplicaHealth() {
+        routingDataSource.getObject().checkHealth();
+    }
+}
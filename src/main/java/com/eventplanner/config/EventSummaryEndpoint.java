@@ -0,0 +1,33 @@
+package com.eventplanner.config;
+
+import com.eventplanner.dto.EventSummaryVerification;
+import com.eventplanner.service.EventSummaryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Operator access to the event summary rollups: {@code GET /actuator/eventsummary} reports
+ * drift from the events table without changing anything, {@code POST /actuator/eventsummary}
+ * repairs it. Only exposed on the private management port (see application-prod.properties),
+ * and only to operators presenting {@code security.operator-token} (see {@link SecurityConfig}).
+ */
+@Component
+@Endpoint(id = "eventsummary")
+public class EventSummaryEndpoint {
+    
+    @Autowired
+    private EventSummaryService eventSummaryService;
+    
+    @ReadOperation
+    public EventSummaryVerification verify() {
+        return eventSummaryService.verify();
+    }
+    
+    @WriteOperation
+    public EventSummaryVerification rebuild() {
+        return eventSummaryService.rebuild();
+    }
+}
@@ -0,0 +1,102 @@
+package com.eventplanner.config;
+
+import com.eventplanner.security.TokenDenyList;
+import com.eventplanner.security.VerifiedTokenCache;
+import com.eventplanner.service.EventChangeBus;
+import com.eventplanner.service.EventReadCache;
+import com.eventplanner.service.UserCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Configuration
+public class MetricsConfig {
+    
+    private static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+    
+    /**
+     * Publishes latency histograms for the event and auth endpoints only, so the other
+     * routes (and the actuator itself) don't each pay for a full set of buckets.
+     */
+    @Bean
+    public MeterFilter apiLatencyHistograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!HTTP_SERVER_REQUESTS.equals(id.getName())) {
+                    return config;
+                }
+                String uri = id.getTag("uri");
+                if (uri != null && (uri.startsWith("/api/events") || uri.startsWith("/api/auth"))) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+    
+    /**
+     * Exposes hit/miss/eviction counts and load times of the in-process caches under the
+     * standard {@code cache.gets} / {@code cache.evictions} / {@code cache.load.duration} names.
+     */
+    @Bean
+    public MeterBinder cacheMetrics(VerifiedTokenCache verifiedTokenCache, EventReadCache eventReadCache,
+                                    UserCache userCache) {
+        return registry -> {
+            bindCacheStats(registry, "verified-tokens", verifiedTokenCache::stats);
+            bindCacheStats(registry, "events-by-user", eventReadCache::listStats);
+            bindCacheStats(registry, "events-by-id", eventReadCache::eventStats);
+            bindCacheStats(registry, "users", userCache::stats);
+        };
+    }
+    
+    @Bean
+    public MeterBinder tokenDenyListMetrics(TokenDenyList tokenDenyList) {
+        return registry -> Gauge.builder("security.jwt.revoked", tokenDenyList, TokenDenyList::size)
+                .description("Revoked tokens that have not expired yet")
+                .register(registry);
+    }
+    
+    @Bean
+    public MeterBinder eventStreamMetrics(EventChangeBus eventChangeBus) {
+        return registry -> {
+            Gauge.builder("events.stream.subscribers", eventChangeBus, EventChangeBus::getSubscriberCount)
+                    .description("Open event change streams")
+                    .register(registry);
+            FunctionCounter.builder("events.stream.evictions", eventChangeBus, EventChangeBus::getEvictionCount)
+                    .description("Change streams closed because the client fell too far behind")
+                    .register(registry);
+        };
+    }
+    
+    private static void bindCacheStats(MeterRegistry registry, String cacheName, Supplier<CacheStats> stats) {
+        FunctionCounter.builder("cache.gets", stats, s -> s.get().hitCount())
+                .tags("cache", cacheName, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", stats, s -> s.get().missCount())
+                .tags("cache", cacheName, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", stats, s -> s.get().evictionCount())
+                .tags("cache", cacheName)
+                .register(registry);
+        FunctionTimer.builder("cache.load.duration", stats, s -> s.get().loadCount(),
+                        s -> s.get().totalLoadTime(), TimeUnit.NANOSECONDS)
+                .tags("cache", cacheName)
+                .description("Time spent loading missed entries")
+                .register(registry);
+    }
+}
@@ -1,9 +1,17 @@
 package com.eventplanner.config;
 
 import com.eventplanner.security.JwtAuthenticationFilter;
+import com.eventplanner.security.OperatorTokenFilter;
+import com.eventplanner.security.RateLimitFilter;
+import com.eventplanner.security.RateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -11,6 +19,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -24,9 +33,37 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
     
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${security.bcrypt.strength:10}")
+    private int bcryptStrength;
+    
+    @Value("${rate-limit.login.capacity:10}")
+    private int loginCapacity;
+    
+    @Value("${rate-limit.login.refill-per-second:0.1}")
+    private double loginRefillPerSecond;
+    
+    @Value("${rate-limit.api.capacity:100}")
+    private int apiCapacity;
+    
+    @Value("${rate-limit.api.refill-per-second:20}")
+    private double apiRefillPerSecond;
+    
+    @Value("${rate-limit.max-keys:100000}")
+    private long rateLimitMaxKeys;
+    
+    @Value("${security.operator-token:}")
+    private String operatorToken;
+    
+    // Bound port of a separate management server; Boot runs one (in a child context) when
+    // management.server.port differs from server.port
+    private volatile int managementPort = -1;
+    
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
     
     @Bean
@@ -37,19 +74,55 @@ public class SecurityConfig {
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/auth/login").permitAll()
+                // Checks its own shared token instead of a user's JWT
+                .requestMatchers("/api/admin/users/bulk").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers(onManagementPort("/actuator/prometheus")).permitAll()
+                // Full-table verify and rebuild: operators only, not any signed-in user
+                .requestMatchers(EndpointRequest.to(EventSummaryEndpoint.class)).hasRole(OperatorTokenFilter.OPERATOR_ROLE)
                 .anyRequest().authenticated()
             )
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(new OperatorTokenFilter(operatorToken), JwtAuthenticationFilter.class)
+            .addFilterAfter(rateLimitFilter(), JwtAuthenticationFilter.class);
         
         return http.build();
     }
     
+    /**
+     * Matches the path only on a management port of its own, which is not exposed publicly.
+     * When the actuator shares the API port, the path needs a bearer token like any other.
+     */
+    private RequestMatcher onManagementPort(String path) {
+        return request -> request.getLocalPort() == managementPort && path.equals(request.getRequestURI());
+    }
+    
+    @EventListener
+    public void onWebServerInitialized(WebServerInitializedEvent event) {
+        if ("management".equals(event.getApplicationContext().getServerNamespace())) {
+            managementPort = event.getWebServer().getPort();
+        }
+    }
+    
+    /**
+     * Not a bean, so Boot does not also register it as a servlet filter outside the chain.
+     */
+    private RateLimitFilter rateLimitFilter() {
+        return new RateLimitFilter(
+            new RateLimiter(loginCapacity, loginRefillPerSecond, rateLimitMaxKeys),
+            new RateLimiter(apiCapacity, apiRefillPerSecond, rateLimitMaxKeys),
+            objectMapper
+        );
+    }
+    
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(Arrays.asList("http://localhost:3000"));
-        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(Arrays.asList("ETag", "Last-Modified",
+            RateLimitFilter.LIMIT_HEADER, RateLimitFilter.REMAINING_HEADER, RateLimitFilter.RESET_HEADER, "Retry-After"));
         configuration.setAllowCredentials(true);
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,50 @@
+package com.eventplanner.config;
+
+import com.eventplanner.security.ConcurrencyLimitFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.Set;
+
+/**
+ * Guards that only apply when requests run on virtual threads
+ * ({@code spring.threads.virtual.enabled=true}, Java 21+).
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+    
+    public VirtualThreadConfig() {
+        // Boot would quietly keep platform threads, leaving only the guards below in effect
+        if (JavaVersion.getJavaVersion().isOlderThan(JavaVersion.TWENTY_ONE)) {
+            throw new IllegalStateException("spring.threads.virtual.enabled=true needs Java 21 or later, but this is Java "
+                    + System.getProperty("java.specification.version"));
+        }
+    }
+    
+    /**
+     * Bounds in-flight requests to a small multiple of the connection pool so the pool,
+     * not an unbounded number of virtual threads, stays the effective limit. The SSE change
+     * stream is left out, so idle subscribers cannot use up the permits.
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${threads.virtual.requests-per-connection:4}") int requestsPerConnection,
+            @Value("${threads.virtual.acquire-timeout-ms:500}") long acquireTimeoutMillis,
+            ObjectMapper objectMapper) {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+                poolSize * requestsPerConnection, acquireTimeoutMillis, objectMapper, Set.of("/api/events/stream"));
+        
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -2,11 +2,14 @@ package com.eventplanner.controller;
 
 import com.eventplanner.dto.AuthResponse;
 import com.eventplanner.dto.LoginRequest;
-import com.eventplanner.entity.User;
-import com.eventplanner.repository.UserRepository;
+import com.eventplanner.dto.UserSummary;
+import com.eventplanner.exception.ServiceOverloadedException;
 import com.eventplanner.service.AuthService;
+import com.eventplanner.service.UserCache;
+import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -16,6 +19,8 @@ import org.springframework.web.bind.annotation.*;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -25,31 +30,46 @@ public class AuthController {
     private AuthService authService;
     
     @Autowired
-    private UserRepository userRepository;
+    private UserCache userCache;
     
+    /**
+     * Password verification completes on the hashing pool, so the servlet thread is
+     * released while the login is in progress.
+     */
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest loginRequest) {
-        try {
-            AuthResponse response = authService.login(loginRequest);
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            Map<String, String> error = new HashMap<>();
-            error.put("error", e.getMessage());
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
-        }
+    public CompletableFuture<ResponseEntity<?>> login(@Valid @RequestBody LoginRequest loginRequest) {
+        return authService.login(loginRequest)
+                .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+                .exceptionally(ex -> {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof ServiceOverloadedException overloaded) {
+                        // Handled by GlobalExceptionHandler as 503 with Retry-After
+                        throw overloaded;
+                    }
+                    Map<String, String> error = new HashMap<>();
+                    error.put("error", cause.getMessage());
+                    return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+                });
     }
     
     @PostMapping("/logout")
-    public ResponseEntity<?> logout() {
-        // With JWT, logout is handled client-side by removing the token
-        // Server-side logout would require token blacklisting
+    public ResponseEntity<?> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authHeader) {
+        // The token stays valid for signature checks but is on the deny list until it expires
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            authService.logout(authHeader.substring(7));
+        }
+        
         Map<String, String> response = new HashMap<>();
         response.put("message", "Logged out successfully");
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Answers from the claims of the already-verified token, without touching the database.
+     * With {@code fresh=true} the user is read through {@link UserCache} instead.
+     */
     @GetMapping("/session")
-    public ResponseEntity<?> getSession() {
+    public ResponseEntity<?> getSession(@RequestParam(defaultValue = "false") boolean fresh) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         
         if (authentication == null || !authentication.isAuthenticated()) {
@@ -59,12 +79,22 @@ public class AuthController {
         }
         
         UUID userId = (UUID) authentication.getPrincipal();
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        String email;
+        if (!fresh && authentication.getCredentials() instanceof Claims claims) {
+            email = claims.get("email", String.class);
+        } else {
+            UserSummary user = userCache.get(userId).orElse(null);
+            if (user == null) {
+                Map<String, String> error = new HashMap<>();
+                error.put("error", "User not found");
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+            }
+            email = user.getEmail();
+        }
         
         Map<String, Object> response = new HashMap<>();
-        response.put("userId", user.getId());
-        response.put("email", user.getEmail());
+        response.put("userId", userId);
+        response.put("email", email);
         response.put("authenticated", true);
         
         return ResponseEntity.ok(response);
@@ -0,0 +1,123 @@
+package com.eventplanner.controller;
+
+import com.eventplanner.dto.BudgetItemResponse;
+import com.eventplanner.dto.BudgetSummaryResponse;
+import com.eventplanner.dto.CreateBudgetItemRequest;
+import com.eventplanner.dto.EventResponse;
+import com.eventplanner.entity.BudgetItem;
+import com.eventplanner.exception.ResourceNotFoundException;
+import com.eventplanner.service.BudgetItemService;
+import com.eventplanner.service.EventService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/events/{eventId}")
+public class BudgetItemController {
+    
+    @Autowired
+    private BudgetItemService budgetItemService;
+    
+    @Autowired
+    private EventService eventService;
+    
+    private UUID getAuthenticatedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new RuntimeException("Not authenticated");
+        }
+        return (UUID) authentication.getPrincipal();
+    }
+    
+    @GetMapping("/budget-items")
+    public ResponseEntity<?> getBudgetItems(@PathVariable UUID eventId) {
+        try {
+            UUID userId = getAuthenticatedUserId();
+            List<BudgetItemResponse> response = budgetItemService.getItems(eventId, userId).stream()
+                    .map(BudgetItemResponse::fromEntity)
+                    .collect(Collectors.toList());
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            return errorResponse(e);
+        }
+    }
+    
+    @PostMapping("/budget-items")
+    public ResponseEntity<?> createBudgetItem(@PathVariable UUID eventId,
+                                              @Valid @RequestBody CreateBudgetItemRequest request) {
+        try {
+            UUID userId = getAuthenticatedUserId();
+            
+            BudgetItem item = new BudgetItem();
+            item.setDescription(request.getDescription());
+            item.setAmount(request.getAmount());
+            
+            BudgetItem savedItem = budgetItemService.addItem(eventId, userId, item);
+            return ResponseEntity.status(HttpStatus.CREATED).body(BudgetItemResponse.fromEntity(savedItem));
+        } catch (RuntimeException e) {
+            return errorResponse(e);
+        }
+    }
+    
+    @DeleteMapping("/budget-items/{itemId}")
+    public ResponseEntity<?> deleteBudgetItem(@PathVariable UUID eventId, @PathVariable UUID itemId) {
+        try {
+            UUID userId = getAuthenticatedUserId();
+            budgetItemService.deleteItem(eventId, itemId, userId);
+            return ResponseEntity.noContent().build();
+        } catch (RuntimeException e) {
+            return errorResponse(e);
+        }
+    }
+    
+    /**
+     * Budget vs. spend for the event, read from its maintained spent total in O(1).
+     */
+    @GetMapping("/budget-summary")
+    public ResponseEntity<?> getBudgetSummary(@PathVariable UUID eventId) {
+        try {
+            UUID userId = getAuthenticatedUserId();
+            EventResponse event = eventService.getEventById(eventId, userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Event not found or access denied"));
+            return ResponseEntity.ok(BudgetSummaryResponse.of(event));
+        } catch (RuntimeException e) {
+            return errorResponse(e);
+        }
+    }
+    
+    /**
+     * 404 only for a missing event or item; a concurrent delete of the same item is a 409,
+     * and anything unexpected is left to {@link com.eventplanner.exception.GlobalExceptionHandler}.
+     */
+    private ResponseEntity<?> errorResponse(RuntimeException e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", e.getMessage());
+        
+        if (e instanceof ResourceNotFoundException) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+        if (e instanceof OptimisticLockingFailureException) {
+            error.put("error", "Budget item was changed by another request");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+        }
+        if (e instanceof IllegalArgumentException) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+        if ("Not authenticated".equals(e.getMessage())) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+        throw e;
+    }
+}
@@ -1,21 +1,53 @@
 package com.eventplanner.controller;
 
+import com.eventplanner.dto.BatchCreateEventsRequest;
+import com.eventplanner.dto.BatchCreateEventsResponse;
+import com.eventplanner.dto.CalendarEntry;
+import com.eventplanner.dto.CalendarGranularity;
 import com.eventplanner.dto.CreateEventRequest;
+import com.eventplanner.dto.ErrorResponse;
+import com.eventplanner.dto.EventCollectionVersion;
+import com.eventplanner.dto.EventCursor;
+import com.eventplanner.dto.EventField;
+import com.eventplanner.dto.EventPageResponse;
 import com.eventplanner.dto.EventResponse;
+import com.eventplanner.dto.EventSearchCursor;
+import com.eventplanner.dto.EventSearchHit;
+import com.eventplanner.dto.EventSummaryResponse;
+import com.eventplanner.dto.UpdateEventRequest;
 import com.eventplanner.entity.Event;
 import com.eventplanner.service.EventService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -23,9 +55,28 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/events")
 public class EventController {
     
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_QUERY_LENGTH = 200;
+    private static final int MAX_CALENDAR_DAYS = 366;
+    private static final String PAST_DATE_MESSAGE = "Date must not be in the past";
+    // Lets clients keep a copy but makes them revalidate it (If-None-Match) on every poll
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    // The same event can be sent as JSON, CBOR or Smile; clients keep (and revalidate) one copy per format
+    private static final String[] VARY = {HttpHeaders.ACCEPT};
+    
     @Autowired
     private EventService eventService;
     
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private Validator validator;
+    
+    @Value("${events.stream.timeout:30m}")
+    private Duration streamTimeout;
+    
     private UUID getAuthenticatedUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
@@ -34,15 +85,187 @@ public class EventController {
         return (UUID) authentication.getPrincipal();
     }
     
+    /**
+     * The full list carries an ETag derived from the list's version. A matching
+     * {@code If-None-Match} is answered with 304 from a count/max(updated_at) probe,
+     * without loading or serializing any events.
+     */
     @GetMapping
-    public ResponseEntity<?> getEvents() {
+    public ResponseEntity<?> getEvents(@RequestParam(required = false) String cursor,
+                                       @RequestParam(required = false) Integer limit,
+                                       @RequestParam(required = false) String fields,
+                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
             UUID userId = getAuthenticatedUserId();
-            List<Event> events = eventService.getEventsByUserId(userId);
-            List<EventResponse> response = events.stream()
-                    .map(EventResponse::fromEntity)
+            
+            if (fields != null) {
+                return getEventFields(userId, EventField.parse(fields), cursor, limit);
+            }
+            
+            if (cursor == null && limit == null) {
+                if (ifNoneMatch != null) {
+                    String currentETag = eventService.getEventsVersion(userId).toETag();
+                    if (eTagMatches(ifNoneMatch, currentETag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(currentETag)
+                                .cacheControl(REVALIDATE)
+                                .varyBy(VARY)
+                                .build();
+                    }
+                }
+                
+                List<EventResponse> events = eventService.getEventsByUserId(userId);
+                // Derived from the list being sent, so the tag always describes this exact body
+                return ResponseEntity.ok()
+                        .eTag(EventCollectionVersion.of(events).toETag())
+                        .cacheControl(REVALIDATE)
+                        .varyBy(VARY)
+                        .body(events);
+            }
+            
+            return getEventsPage(userId, cursor, limit);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+    }
+    
+    private ResponseEntity<?> getEventsPage(UUID userId, String cursor, Integer limit) {
+        int pageSize = pageSize(limit);
+        EventCursor after = cursor == null ? null : EventCursor.decode(cursor);
+        
+        // Fetch one extra row to find out whether another page exists
+        List<EventResponse> items = eventService.getEventsPage(userId, after, pageSize + 1);
+        boolean hasMore = items.size() > pageSize;
+        if (hasMore) {
+            items = items.subList(0, pageSize);
+        }
+        
+        String nextCursor = hasMore ? EventCursor.of(items.get(items.size() - 1)).encode() : null;
+        
+        return ResponseEntity.ok(new EventPageResponse<>(items, nextCursor));
+    }
+    
+    /**
+     * Sparse fieldset ({@code ?fields=title,date}): only the requested columns (plus the id)
+     * are selected and returned. Paginated like the full list when cursor or limit is given.
+     */
+    private ResponseEntity<?> getEventFields(UUID userId, Set<EventField> fields, String cursor, Integer limit) {
+        if (cursor == null && limit == null) {
+            List<Map<String, Object>> rows = eventService.getEventFields(userId, fields, null, null);
+            rows.forEach(row -> retainFields(row, fields));
+            return ResponseEntity.ok(rows);
+        }
+        
+        int pageSize = pageSize(limit);
+        EventCursor after = cursor == null ? null : EventCursor.decode(cursor);
+        
+        List<Map<String, Object>> rows = eventService.getEventFields(userId, fields, after, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+        
+        String nextCursor = null;
+        if (hasMore) {
+            Map<String, Object> last = rows.get(rows.size() - 1);
+            nextCursor = new EventCursor((LocalDate) last.get("date"), (UUID) last.get("id")).encode();
+        }
+        rows.forEach(row -> retainFields(row, fields));
+        
+        return ResponseEntity.ok(new EventPageResponse<>(rows, nextCursor));
+    }
+    
+    // Rows always carry the keyset columns; drop the date again if it was not asked for
+    private static void retainFields(Map<String, Object> row, Set<EventField> fields) {
+        if (!fields.contains(EventField.DATE)) {
+            row.remove(EventField.DATE.getName());
+        }
+    }
+    
+    /**
+     * Per-day ({@code granularity=day}, the default) or per-week totals for the calendar view,
+     * e.g. {@code ?from=2025-03-01&to=2025-03-31}. Both dates are inclusive.
+     */
+    @GetMapping("/calendar")
+    public ResponseEntity<?> getCalendar(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                         @RequestParam(defaultValue = "day") String granularity) {
+        try {
+            UUID userId = getAuthenticatedUserId();
+            
+            if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_CALENDAR_DAYS) {
+                throw new IllegalArgumentException("Range must span 1 to " + MAX_CALENDAR_DAYS + " days");
+            }
+            
+            List<CalendarEntry> entries = eventService.getCalendar(userId, from, to, CalendarGranularity.parse(granularity));
+            return ResponseEntity.ok(entries);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+    }
+    
+    /**
+     * Dashboard totals over all of the user's events: how many, how many are upcoming or past,
+     * and their combined budget and attendees. Read from a maintained summary row.
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<?> getSummary() {
+        try {
+            UUID userId = getAuthenticatedUserId();
+            EventSummaryResponse summary = eventService.getSummary(userId);
+            return ResponseEntity.ok(summary);
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+    }
+    
+    /**
+     * Searches the title and description of the user's events ({@code ?q=venue booking}).
+     * Results are ordered by relevance and paginated with an opaque cursor.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchEvents(@RequestParam String q,
+                                          @RequestParam(required = false) String cursor,
+                                          @RequestParam(required = false) Integer limit) {
+        try {
+            UUID userId = getAuthenticatedUserId();
+            
+            if (q.isBlank() || q.length() > MAX_QUERY_LENGTH) {
+                throw new IllegalArgumentException("Query must be between 1 and " + MAX_QUERY_LENGTH + " characters");
+            }
+            int pageSize = pageSize(limit);
+            EventSearchCursor after = cursor == null ? null : EventSearchCursor.decode(cursor);
+            
+            List<EventSearchHit> hits = eventService.searchEvents(userId, q.trim(), after, pageSize + 1);
+            boolean hasMore = hits.size() > pageSize;
+            if (hasMore) {
+                hits = hits.subList(0, pageSize);
+            }
+            
+            String nextCursor = hasMore ? EventSearchCursor.of(hits.get(hits.size() - 1)).encode() : null;
+            List<EventResponse> items = hits.stream()
+                    .map(EventSearchHit::getEvent)
                     .collect(Collectors.toList());
-            return ResponseEntity.ok(response);
+            
+            return ResponseEntity.ok(new EventPageResponse<>(items, nextCursor));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         } catch (RuntimeException e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -50,6 +273,53 @@ public class EventController {
         }
     }
     
+    private static int pageSize(Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return pageSize;
+    }
+    
+    /**
+     * Streams all of the user's events as a JSON array, writing each one as soon as it
+     * is read so memory use does not depend on how many events the user has.
+     */
+    @GetMapping(params = "stream=true")
+    public void streamEvents(HttpServletResponse response) throws IOException {
+        UUID userId = getAuthenticatedUserId();
+        
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.writeStartArray();
+            eventService.streamEventsByUserId(userId, event -> {
+                try {
+                    objectMapper.writeValue(generator, event);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+        }
+    }
+    
+    /**
+     * Server-Sent Events stream of changes to the user's events ({@code created}, {@code updated}).
+     * Browsers reconnect on their own after the timeout and send {@code Last-Event-ID}, so no
+     * change in between is missed; a {@code reset} event means the list has to be reloaded.
+     * Idle connections hold no request thread.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        UUID userId = getAuthenticatedUserId();
+        
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        eventService.subscribeToChanges(userId, lastEventId, emitter);
+        return emitter;
+    }
+    
     @PostMapping
     public ResponseEntity<?> createEvent(@Valid @RequestBody CreateEventRequest request) {
         try {
@@ -61,20 +331,12 @@ public class EventController {
                 error.put("error", "Validation failed");
                 Map<String, String> validationError = new HashMap<>();
                 validationError.put("field", "date");
-                validationError.put("message", "Date must not be in the past");
+                validationError.put("message", PAST_DATE_MESSAGE);
                 error.put("validationErrors", List.of(validationError));
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
             }
             
-            Event event = new Event();
-            event.setUserId(userId);
-            event.setTitle(request.getTitle());
-            event.setDate(request.getDate());
-            event.setBudget(request.getBudget());
-            event.setDescription(request.getDescription());
-            event.setAttendeeCount(request.getAttendeeCount());
-            
-            Event savedEvent = eventService.createEvent(event);
+            Event savedEvent = eventService.createEvent(toEntity(request, userId));
             EventResponse response = EventResponse.fromEntity(savedEvent);
             
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
@@ -85,15 +347,139 @@ public class EventController {
         }
     }
     
+    /**
+     * Creates many events in one request. Each item is validated on its own. With
+     * {@code atomic=true} (the default) nothing is created unless every item is valid;
+     * with {@code atomic=false} the valid items are created and the rest are reported.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<?> createEvents(@Valid @RequestBody BatchCreateEventsRequest request,
+                                          @RequestParam(defaultValue = "true") boolean atomic) {
+        UUID userId;
+        try {
+            userId = getAuthenticatedUserId();
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+        
+        List<CreateEventRequest> items = request.getEvents();
+        List<BatchCreateEventsResponse.ItemResult> results = new ArrayList<>(items.size());
+        List<Event> toCreate = new ArrayList<>(items.size());
+        List<BatchCreateEventsResponse.ItemResult> pending = new ArrayList<>(items.size());
+        
+        for (int i = 0; i < items.size(); i++) {
+            List<ErrorResponse.ValidationError> validationErrors = validateItem(items.get(i));
+            if (validationErrors.isEmpty()) {
+                BatchCreateEventsResponse.ItemResult result = new BatchCreateEventsResponse.ItemResult(
+                        i, BatchCreateEventsResponse.ItemStatus.SKIPPED, null, null);
+                results.add(result);
+                pending.add(result);
+                toCreate.add(toEntity(items.get(i), userId));
+            } else {
+                results.add(new BatchCreateEventsResponse.ItemResult(
+                        i, BatchCreateEventsResponse.ItemStatus.INVALID, null, validationErrors));
+            }
+        }
+        
+        int failed = items.size() - toCreate.size();
+        if (toCreate.isEmpty() || (atomic && failed > 0)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new BatchCreateEventsResponse(0, failed, results));
+        }
+        
+        List<Event> savedEvents = eventService.createEvents(toCreate);
+        for (int i = 0; i < savedEvents.size(); i++) {
+            pending.get(i).setStatus(BatchCreateEventsResponse.ItemStatus.CREATED);
+            pending.get(i).setEvent(EventResponse.fromEntity(savedEvents.get(i)));
+        }
+        
+        HttpStatus status = failed == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status)
+                .body(new BatchCreateEventsResponse(savedEvents.size(), failed, results));
+    }
+    
+    private List<ErrorResponse.ValidationError> validateItem(CreateEventRequest item) {
+        List<ErrorResponse.ValidationError> validationErrors = new ArrayList<>();
+        if (item == null) {
+            validationErrors.add(new ErrorResponse.ValidationError(null, "Event is required"));
+            return validationErrors;
+        }
+        for (ConstraintViolation<CreateEventRequest> violation : validator.validate(item)) {
+            validationErrors.add(new ErrorResponse.ValidationError(
+                    violation.getPropertyPath().toString(), violation.getMessage()));
+        }
+        if (item.getDate() != null && item.getDate().isBefore(LocalDate.now())) {
+            validationErrors.add(new ErrorResponse.ValidationError("date", PAST_DATE_MESSAGE));
+        }
+        return validationErrors;
+    }
+    
+    private Event toEntity(CreateEventRequest request, UUID userId) {
+        Event event = new Event();
+        event.setUserId(userId);
+        event.setTitle(request.getTitle());
+        event.setDate(request.getDate());
+        event.setBudget(request.getBudget());
+        event.setDescription(request.getDescription());
+        event.setAttendeeCount(request.getAttendeeCount());
+        return event;
+    }
+    
     @GetMapping("/{id}")
     public ResponseEntity<?> getEventById(@PathVariable UUID id) {
         try {
             UUID userId = getAuthenticatedUserId();
-            Event event = eventService.getEventById(id, userId)
+            EventResponse event = eventService.getEventById(id, userId)
                     .orElseThrow(() -> new RuntimeException("Event not found or access denied"));
             
-            EventResponse response = EventResponse.fromEntity(event);
+            // Conditional requests (If-None-Match / If-Modified-Since) are answered with 304 by Spring MVC
+            return ResponseEntity.ok()
+                    .eTag(eventETag(event))
+                    .lastModified(event.getUpdatedAt().atZone(ZoneId.systemDefault()))
+                    .cacheControl(REVALIDATE)
+                    .varyBy(VARY)
+                    .body(event);
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            
+            if (e.getMessage().equals("Not authenticated")) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+            }
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+    }
+    
+    /**
+     * Changes only the fields present in the body. The body's {@code version} must match the
+     * event's current version, otherwise nothing is written and 409 is returned; re-read the
+     * event and retry.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<?> updateEvent(@PathVariable UUID id, @Valid @RequestBody UpdateEventRequest request) {
+        try {
+            UUID userId = getAuthenticatedUserId();
+            
+            if (!request.hasChanges()) {
+                throw new IllegalArgumentException("No fields to update");
+            }
+            if (request.getDate() != null && request.getDate().isBefore(LocalDate.now())) {
+                throw new IllegalArgumentException(PAST_DATE_MESSAGE);
+            }
+            
+            EventResponse response = eventService.updateEvent(id, userId, request)
+                    .orElseThrow(() -> new RuntimeException("Event not found or access denied"));
             return ResponseEntity.ok(response);
+        } catch (OptimisticLockingFailureException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         } catch (RuntimeException e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -104,4 +490,22 @@ public class EventController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
         }
     }
+    
+    // Every change to an event (PATCH, budget items) bumps its version, whatever the clocks say
+    private static String eventETag(EventResponse event) {
+        return "\"" + event.getId() + "-" + event.getVersion() + "\"";
+    }
+    
+    private static boolean eTagMatches(String ifNoneMatch, String eTag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,130 @@
+package com.eventplanner.controller;
+
+import com.eventplanner.dto.CreateTaskRequest;
+import com.eventplanner.dto.TaskCursor;
+import com.eventplanner.dto.TaskFilter;
+import com.eventplanner.dto.TaskPageResponse;
+import com.eventplanner.dto.TaskResponse;
+import com.eventplanner.entity.Task;
+import com.eventplanner.entity.TaskPriority;
+import com.eventplanner.service.TaskService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/events/{eventId}/tasks")
+public class TaskController {
+    
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    
+    @Autowired
+    private TaskService taskService;
+    
+    private UUID getAuthenticatedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new RuntimeException("Not authenticated");
+        }
+        return (UUID) authentication.getPrincipal();
+    }
+    
+    /**
+     * Lists the event's tasks, filtered and sorted in SQL and keyset-paginated.
+     *
+     * @param priority High, Medium or Low
+     * @param status   not_started, in_progress or completed
+     * @param sort     priority (default) or date
+     */
+    @GetMapping
+    public ResponseEntity<?> getTasks(@PathVariable UUID eventId,
+                                      @RequestParam(required = false) String priority,
+                                      @RequestParam(required = false) String status,
+                                      @RequestParam(defaultValue = "priority") String sort,
+                                      @RequestParam(required = false) String cursor,
+                                      @RequestParam(required = false) Integer limit) {
+        try {
+            UUID userId = getAuthenticatedUserId();
+            
+            int pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+            if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+            }
+            TaskFilter filter = new TaskFilter(
+                priority == null ? null : TaskPriority.fromLabel(priority),
+                status == null ? null : parseEnum(TaskFilter.Status.class, status, "status"),
+                parseEnum(TaskFilter.Sort.class, sort, "sort")
+            );
+            TaskCursor after = cursor == null ? null : TaskCursor.decode(cursor);
+            
+            // Fetch one extra row to find out whether another page exists
+            List<Task> tasks = taskService.getTasksPage(eventId, userId, filter, after, pageSize + 1);
+            boolean hasMore = tasks.size() > pageSize;
+            if (hasMore) {
+                tasks = tasks.subList(0, pageSize);
+            }
+            
+            List<TaskResponse> items = tasks.stream()
+                    .map(TaskResponse::fromEntity)
+                    .collect(Collectors.toList());
+            String nextCursor = hasMore ? TaskCursor.of(tasks.get(tasks.size() - 1)).encode() : null;
+            
+            return ResponseEntity.ok(new TaskPageResponse(items, nextCursor));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        } catch (RuntimeException e) {
+            return errorResponse(e);
+        }
+    }
+    
+    @PostMapping
+    public ResponseEntity<?> createTask(@PathVariable UUID eventId, @Valid @RequestBody CreateTaskRequest request) {
+        try {
+            UUID userId = getAuthenticatedUserId();
+            
+            Task task = new Task();
+            task.setTitle(request.getTitle());
+            task.setDescription(request.getDescription());
+            task.setPriority(request.getPriority());
+            task.setProgress(request.getProgress());
+            task.setDate(request.getDate());
+            
+            Task savedTask = taskService.createTask(eventId, userId, task);
+            return ResponseEntity.status(HttpStatus.CREATED).body(TaskResponse.fromEntity(savedTask));
+        } catch (RuntimeException e) {
+            return errorResponse(e);
+        }
+    }
+    
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String name) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+    
+    private ResponseEntity<?> errorResponse(RuntimeException e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", e.getMessage());
+        
+        if ("Not authenticated".equals(e.getMessage())) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+}
@@ -0,0 +1,85 @@
+package com.eventplanner.controller;
+
+import com.eventplanner.service.UserProvisioningService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bulk user provisioning for onboarding whole organizations. Not tied to a user account:
+ * callers authenticate with the shared {@code users.provisioning.token} in the
+ * {@code X-Provisioning-Token} header, and the endpoint does not exist while no token is set.
+ */
+@RestController
+@RequestMapping("/api/admin/users")
+public class UserProvisioningController {
+    
+    static final String TOKEN_HEADER = "X-Provisioning-Token";
+    
+    private static final String NDJSON = "application/x-ndjson";
+    
+    @Autowired
+    private UserProvisioningService userProvisioningService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${users.provisioning.token:}")
+    private String provisioningToken;
+    
+    /**
+     * Reads one {@code {"email":..,"password":..}} object per line and answers with one
+     * result per line ({@code created}, {@code exists}, {@code duplicate} or {@code invalid}),
+     * written as each batch commits. Neither side is buffered in full, so uploads of any
+     * size are fine; lines before a failure stay committed.
+     */
+    @PostMapping(value = "/bulk", consumes = NDJSON, produces = NDJSON)
+    public void provisionUsers(@RequestHeader(value = TOKEN_HEADER, required = false) String token,
+                               HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
+        if (provisioningToken.isEmpty()) {
+            writeError(response, HttpStatus.NOT_FOUND, "Not found");
+            return;
+        }
+        if (token == null || !MessageDigest.isEqual(
+                token.getBytes(StandardCharsets.UTF_8), provisioningToken.getBytes(StandardCharsets.UTF_8))) {
+            writeError(response, HttpStatus.FORBIDDEN, "Invalid provisioning token");
+            return;
+        }
+        
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        
+        ServletOutputStream output = response.getOutputStream();
+        userProvisioningService.provision(request.getReader(), result -> {
+            try {
+                output.write(objectMapper.writeValueAsBytes(result));
+                output.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+    
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", message);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
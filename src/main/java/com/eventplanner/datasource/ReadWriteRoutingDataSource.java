@@ -0,0 +1,179 @@
+package com.eventplanner.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends connections for read-only transactions to the replicas in turn and everything else
+ * (writes, non-transactional work, Flyway) to the primary. Replicas that fail to hand out a
+ * connection, or fail a health check, are skipped until a later check passes; with none
+ * left, reads go to the primary. A thread marked with {@link #requirePrimary} reads from
+ * the primary too, so a user sees their own recent writes.
+ * <p>
+ * The routing decision is made when a connection is requested, which for JPA is when the
+ * transaction begins. Wrap this in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * so it happens at the first statement, after the read-only flag has been set.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements Closeable {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+    
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+    
+    private final DataSource primary;
+    
+    private final List<Replica> replicas = new ArrayList<>();
+    
+    private final String lagQuery;
+    
+    private final double maxLagSeconds;
+    
+    private final AtomicInteger next = new AtomicInteger();
+    
+    /**
+     * @param replicas  replica pools by name (the name is only used in logs)
+     * @param lagQuery  query returning the replica's lag in seconds (null when not a replica),
+     *                  or empty to only check that a connection can be opened
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                      String lagQuery, Duration maxLag) {
+        this.primary = primary;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+    }
+    
+    /**
+     * Marks (or unmarks) the current thread as having to read from the primary.
+     */
+    public static void requirePrimary(boolean required) {
+        if (required) {
+            PRIMARY_REQUIRED.set(Boolean.TRUE);
+        } else {
+            PRIMARY_REQUIRED.remove();
+        }
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PRIMARY_REQUIRED.get() != null) {
+            return primary.getConnection();
+        }
+        
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(replicas.size(), 1));
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                // Skip it right away instead of failing every read until the next check
+                markHealthy(replica, false, e.getMessage());
+            }
+        }
+        return primary.getConnection();
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Credentials are configured per pool");
+    }
+    
+    /**
+     * Probes every replica, including the ones currently skipped, and updates whether it is used.
+     */
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try {
+                String problem = probe(replica);
+                markHealthy(replica, problem == null, problem);
+            } catch (SQLException e) {
+                markHealthy(replica, false, e.getMessage());
+            }
+        }
+    }
+    
+    public int getHealthyReplicaCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+    
+    // Returns why the replica should not be used, or null if it is fine
+    private String probe(Replica replica) throws SQLException {
+        try (Connection connection = replica.dataSource.getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                return "connection is not valid";
+            }
+            if (lagQuery == null || lagQuery.isBlank()) {
+                return null;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                if (!resultSet.next()) {
+                    return null;
+                }
+                double lagSeconds = resultSet.getDouble(1);
+                if (!resultSet.wasNull() && lagSeconds > maxLagSeconds) {
+                    return String.format("replication lag %.1fs exceeds %.1fs", lagSeconds, maxLagSeconds);
+                }
+                return null;
+            }
+        }
+    }
+    
+    private void markHealthy(Replica replica, boolean healthy, String reason) {
+        if (replica.healthy == healthy) {
+            return;
+        }
+        replica.healthy = healthy;
+        if (healthy) {
+            log.info("Replica {} is back in rotation", replica.name);
+        } else {
+            log.warn("Replica {} taken out of rotation, reads fall back to other replicas or the primary: {}",
+                    replica.name, reason);
+        }
+    }
+    
+    /**
+     * Closes the replica pools; the primary is managed separately.
+     */
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+    
+    private static final class Replica {
+        
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+        
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.eventplanner.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Treats every non-safe request of an authenticated user as a write, and routes the reads
+ * of users with a recent write to the primary for the rest of the request.
+ */
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+    
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    
+    private final ReadYourWritesTracker tracker;
+    
+    public ReadYourWritesInterceptor(ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UUID userId)) {
+            return true;
+        }
+        
+        // Recorded before the write runs, so a read racing it from another request is covered too
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            tracker.recordWrite(userId);
+        }
+        if (tracker.hasRecentWrite(userId)) {
+            ReadWriteRoutingDataSource.requirePrimary(true);
+        }
+        return true;
+    }
+    
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReadWriteRoutingDataSource.requirePrimary(false);
+    }
+    
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReadWriteRoutingDataSource.requirePrimary(false);
+    }
+}
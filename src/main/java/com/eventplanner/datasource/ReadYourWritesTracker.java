@@ -0,0 +1,32 @@
+package com.eventplanner.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Remembers which users made a write in the last {@code window}, so their reads can be kept
+ * on the primary until the replicas have caught up. Per instance: a read that lands on
+ * another instance right after the write can still see a lagging replica.
+ */
+public class ReadYourWritesTracker {
+    
+    private final Cache<UUID, Boolean> recentWriters;
+    
+    public ReadYourWritesTracker(Duration window, long maxUsers) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maxUsers)
+                .build();
+    }
+    
+    public void recordWrite(UUID userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+    }
+    
+    public boolean hasRecentWrite(UUID userId) {
+        return recentWriters.getIfPresent(userId) != null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.eventplanner.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCreateEventsRequest {
+    
+    // Items are validated one by one so each gets its own result
+    @NotEmpty(message = "At least one event is required")
+    @Size(max = 1000, message = "At most 1000 events can be created per request")
+    private List<CreateEventRequest> events;
+}
@@ -0,0 +1,34 @@
+package com.eventplanner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCreateEventsResponse {
+    
+    private int created;
+    private int failed;
+    private List<ItemResult> results;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private int index;
+        private ItemStatus status;
+        private EventResponse event;
+        private List<ErrorResponse.ValidationError> validationErrors;
+    }
+    
+    public enum ItemStatus {
+        CREATED,
+        INVALID,
+        // Valid, but not created because another item in an all-or-nothing batch was invalid
+        SKIPPED
+    }
+}
@@ -0,0 +1,32 @@
+package com.eventplanner.dto;
+
+import com.eventplanner.entity.BudgetItem;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetItemResponse {
+    
+    private UUID id;
+    private UUID eventId;
+    private String description;
+    private BigDecimal amount;
+    private LocalDateTime createdAt;
+    
+    public static BudgetItemResponse fromEntity(BudgetItem item) {
+        return new BudgetItemResponse(
+            item.getId(),
+            item.getEventId(),
+            item.getDescription(),
+            item.getAmount(),
+            item.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,48 @@
+package com.eventplanner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.UUID;
+
+/**
+ * Budget vs. spend comparison for one event (Requirement 5), computed from the
+ * event's maintained spent total.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetSummaryResponse {
+    
+    private UUID eventId;
+    private BigDecimal budget;
+    private BigDecimal totalSpent;
+    private BigDecimal difference;
+    private BigDecimal budgetRemaining;
+    private BigDecimal overage;
+    private BigDecimal percentageUsed;
+    private boolean overBudget;
+    
+    public static BudgetSummaryResponse of(EventResponse event) {
+        BigDecimal budget = event.getBudget();
+        BigDecimal totalSpent = event.getSpentTotal();
+        BigDecimal difference = budget.subtract(totalSpent);
+        boolean overBudget = difference.signum() < 0;
+        BigDecimal percentageUsed = totalSpent.multiply(BigDecimal.valueOf(100))
+                .divide(budget, 2, RoundingMode.HALF_UP);
+        
+        return new BudgetSummaryResponse(
+            event.getId(),
+            budget,
+            totalSpent,
+            difference,
+            overBudget ? BigDecimal.ZERO : difference,
+            overBudget ? difference.negate() : BigDecimal.ZERO,
+            percentageUsed,
+            overBudget
+        );
+    }
+}
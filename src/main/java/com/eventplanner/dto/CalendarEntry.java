@@ -0,0 +1,28 @@
+package com.eventplanner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Totals of the events in one calendar bucket (a day, or the week starting on {@code date}).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarEntry {
+    
+    private LocalDate date;
+    private long eventCount;
+    private BigDecimal totalBudget;
+    private long totalAttendees;
+    
+    /** Folds another bucket's totals into this one. */
+    public CalendarEntry add(CalendarEntry other) {
+        return new CalendarEntry(date, eventCount + other.eventCount,
+                totalBudget.add(other.totalBudget), totalAttendees + other.totalAttendees);
+    }
+}
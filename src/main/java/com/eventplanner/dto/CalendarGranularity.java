@@ -0,0 +1,28 @@
+package com.eventplanner.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * Bucket size of the event calendar. Weeks start on Monday (ISO-8601).
+ */
+public enum CalendarGranularity {
+    DAY,
+    WEEK;
+    
+    /** First day of the bucket that contains {@code date}. */
+    public LocalDate bucketStart(LocalDate date) {
+        return this == WEEK ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : date;
+    }
+    
+    public static CalendarGranularity parse(String granularity) {
+        for (CalendarGranularity value : values()) {
+            if (value.name().equals(granularity.trim().toUpperCase(Locale.ROOT))) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Granularity must be day or week");
+    }
+}
@@ -0,0 +1,33 @@
+package com.eventplanner.dto;
+
+import com.eventplanner.entity.TaskPriority;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateTaskRequest {
+    
+    @NotBlank(message = "Title is required")
+    @Size(max = 200, message = "Title must not exceed 200 characters")
+    private String title;
+    
+    @Size(max = 1000, message = "Description must not exceed 1000 characters")
+    private String description;
+    
+    @NotNull(message = "Priority is required")
+    private TaskPriority priority;
+    
+    @NotNull(message = "Progress is required")
+    @Min(value = 0, message = "Progress must be between 0 and 100")
+    @Max(value = 100, message = "Progress must be between 0 and 100")
+    private Integer progress;
+    
+    @NotNull(message = "Date is required")
+    private LocalDate date;
+}
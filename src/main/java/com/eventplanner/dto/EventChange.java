@@ -0,0 +1,22 @@
+package com.eventplanner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Notification that one of the user's events changed. It carries no event data; clients
+ * re-read the event (cheaply, with its ETag) when they need it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventChange {
+    
+    private EventChangeType type;
+    private UUID eventId;
+    private LocalDateTime occurredAt;
+}
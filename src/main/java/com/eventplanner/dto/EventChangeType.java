@@ -0,0 +1,22 @@
+package com.eventplanner.dto;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Kinds of change pushed on the event change stream; the name is also the SSE event name.
+ */
+public enum EventChangeType {
+    CREATED("created"),
+    UPDATED("updated");
+    
+    private final String name;
+    
+    EventChangeType(String name) {
+        this.name = name;
+    }
+    
+    @JsonValue
+    public String getName() {
+        return name;
+    }
+}
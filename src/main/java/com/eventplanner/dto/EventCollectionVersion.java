@@ -0,0 +1,47 @@
+package com.eventplanner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Version of a user's event list: the number of events and the latest {@code updatedAt}.
+ * Any insert, update or delete changes at least one of the two.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventCollectionVersion {
+    
+    private Long count;
+    private LocalDateTime lastUpdatedAt;
+    
+    public static EventCollectionVersion of(List<EventResponse> events) {
+        LocalDateTime lastUpdatedAt = events.stream()
+                .map(EventResponse::getUpdatedAt)
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+        return new EventCollectionVersion((long) events.size(), lastUpdatedAt);
+    }
+    
+    public String toETag() {
+        return "\"events-" + count + "-" + Long.toHexString(epochMicros(lastUpdatedAt)) + "\"";
+    }
+    
+    /**
+     * Microseconds since the epoch; the database keeps microsecond precision, so an entity
+     * fresh from {@code @UpdateTimestamp} and the same row read back yield the same value.
+     */
+    private static long epochMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return 0L;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,57 @@
+package com.eventplanner.dto;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Event attributes that can be requested through {@code ?fields=}. The API name is also
+ * the entity attribute name, so a sparse fieldset maps one-to-one onto the SQL column list.
+ */
+public enum EventField {
+    ID("id"),
+    USER_ID("userId"),
+    TITLE("title"),
+    DATE("date"),
+    BUDGET("budget"),
+    DESCRIPTION("description"),
+    ATTENDEE_COUNT("attendeeCount"),
+    SPENT_TOTAL("spentTotal"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    VERSION("version");
+    
+    private final String name;
+    
+    EventField(String name) {
+        this.name = name;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    /**
+     * Parses a comma-separated list such as {@code "title,date"}. The id is always included.
+     */
+    public static Set<EventField> parse(String fields) {
+        Set<EventField> parsed = EnumSet.of(ID);
+        for (String field : fields.split(",")) {
+            String trimmed = field.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            parsed.add(fromName(trimmed));
+        }
+        return parsed;
+    }
+    
+    private static EventField fromName(String name) {
+        for (EventField field : values()) {
+            if (field.name.toLowerCase(Locale.ROOT).equals(name.toLowerCase(Locale.ROOT))) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field: " + name);
+    }
+}
@@ -0,0 +1,17 @@
+package com.eventplanner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventPageResponse<T> {
+    
+    // EventResponse, or a field-name/value map for sparse fieldsets
+    private List<T> items;
+    private String nextCursor;
+}
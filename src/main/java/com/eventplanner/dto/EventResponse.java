@@ -1,29 +1,31 @@
 package com.eventplanner.dto;
 
 import com.eventplanner.entity.Event;
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+/**
+ * Read model of an event. Immutable, so one instance can be shared by every reader
+ * of {@link com.eventplanner.service.EventReadCache}.
+ */
+@Value
 public class EventResponse {
     
-    private UUID id;
-    private UUID userId;
-    private String title;
-    private LocalDate date;
-    private BigDecimal budget;
-    private String description;
-    private Integer attendeeCount;
-    private LocalDateTime createdAt;
-    private LocalDateTime updatedAt;
+    UUID id;
+    UUID userId;
+    String title;
+    LocalDate date;
+    BigDecimal budget;
+    String description;
+    Integer attendeeCount;
+    BigDecimal spentTotal;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+    Long version;
     
     public static EventResponse fromEntity(Event event) {
         return new EventResponse(
@@ -34,8 +36,10 @@ public class EventResponse {
             event.getBudget(),
             event.getDescription(),
             event.getAttendeeCount(),
+            event.getSpentTotal(),
             event.getCreatedAt(),
-            event.getUpdatedAt()
+            event.getUpdatedAt(),
+            event.getVersion()
         );
     }
 }
@@ -0,0 +1,43 @@
+package com.eventplanner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor pointing at the last (rank, id) pair of a search results page.
+ */
+@Data
+@AllArgsConstructor
+public class EventSearchCursor {
+    
+    private float rank;
+    private UUID id;
+    
+    public static EventSearchCursor of(EventSearchHit hit) {
+        return new EventSearchCursor(hit.getRank(), hit.getEvent().getId());
+    }
+    
+    public String encode() {
+        // Float.toString round-trips exactly, so the rank compares equal when re-computed
+        String raw = rank + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public static EventSearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new EventSearchCursor(
+                Float.parseFloat(raw.substring(0, separator)),
+                UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
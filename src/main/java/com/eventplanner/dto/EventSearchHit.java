@@ -0,0 +1,14 @@
+package com.eventplanner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSearchHit {
+    
+    private EventResponse event;
+    private float rank;
+}
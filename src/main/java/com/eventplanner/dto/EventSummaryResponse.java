@@ -0,0 +1,33 @@
+package com.eventplanner.dto;
+
+import com.eventplanner.entity.UserEventSummary;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Totals over all of a user's events. Upcoming events are those dated today or later.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSummaryResponse {
+    
+    private long totalEvents;
+    private long upcomingEvents;
+    private long pastEvents;
+    private BigDecimal totalBudget;
+    private long totalAttendees;
+    
+    public static EventSummaryResponse fromEntity(UserEventSummary summary) {
+        return new EventSummaryResponse(
+            summary.getTotalEvents(),
+            summary.getUpcomingEvents(),
+            summary.getTotalEvents() - summary.getUpcomingEvents(),
+            summary.getTotalBudget(),
+            summary.getTotalAttendees()
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package com.eventplanner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of comparing the stored summaries with totals recomputed from the events table.
+ * {@code driftedUserIds} lists users whose row is wrong or missing.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSummaryVerification {
+    
+    private int checkedUsers;
+    private List<UUID> driftedUserIds;
+    private int repairedUsers;
+}
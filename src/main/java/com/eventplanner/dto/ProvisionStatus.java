@@ -0,0 +1,26 @@
+package com.eventplanner.dto;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Outcome of one line of a bulk provisioning upload.
+ */
+public enum ProvisionStatus {
+    CREATED("created"),
+    // A user with this email already existed; it was left unchanged
+    EXISTS("exists"),
+    // The same email appeared earlier in the same batch
+    DUPLICATE("duplicate"),
+    INVALID("invalid");
+    
+    private final String name;
+    
+    ProvisionStatus(String name) {
+        this.name = name;
+    }
+    
+    @JsonValue
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,27 @@
+package com.eventplanner.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One line of a bulk provisioning upload.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProvisionUserRequest {
+    
+    @NotBlank(message = "Email is required")
+    @Email(message = "Email must be valid")
+    @Size(max = 255, message = "Email must not exceed 255 characters")
+    private String email;
+    
+    // BCrypt only uses the first 72 bytes
+    @NotBlank(message = "Password is required")
+    @Size(max = 72, message = "Password must not exceed 72 characters")
+    private String password;
+}
@@ -0,0 +1,24 @@
+package com.eventplanner.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one input line; {@code id} is set for created users, {@code error} for invalid lines.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProvisionUserResult {
+    
+    private long line;
+    private String email;
+    private ProvisionStatus status;
+    private UUID id;
+    private String error;
+}
@@ -0,0 +1,46 @@
+package com.eventplanner.dto;
+
+import com.eventplanner.entity.Task;
+import com.eventplanner.entity.TaskPriority;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor pointing at the last (priority, date, id) of a task page.
+ */
+@Data
+@AllArgsConstructor
+public class TaskCursor {
+    
+    private TaskPriority priority;
+    private LocalDate date;
+    private UUID id;
+    
+    public static TaskCursor of(Task task) {
+        return new TaskCursor(task.getPriority(), task.getDate(), task.getId());
+    }
+    
+    public String encode() {
+        String raw = priority.getRank() + "|" + date + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public static TaskCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            return new TaskCursor(
+                TaskPriority.fromRank(Short.parseShort(parts[0])),
+                LocalDate.parse(parts[1]),
+                UUID.fromString(parts[2])
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
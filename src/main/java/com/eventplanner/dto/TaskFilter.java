@@ -0,0 +1,35 @@
+package com.eventplanner.dto;
+
+import com.eventplanner.entity.TaskPriority;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Filtering and ordering options for an event's task list (Requirement 7).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilter {
+    
+    private TaskPriority priority;
+    private Status status;
+    private Sort sort = Sort.PRIORITY;
+    
+    public enum Status {
+        // progress = 0
+        NOT_STARTED,
+        // 0 < progress < 100
+        IN_PROGRESS,
+        // progress = 100
+        COMPLETED
+    }
+    
+    public enum Sort {
+        // Highest priority first, then by date; served by idx_tasks_event_priority_date
+        PRIORITY,
+        // By date; served by idx_tasks_event_date
+        DATE
+    }
+}
@@ -0,0 +1,41 @@
+package com.eventplanner.dto;
+
+import com.eventplanner.entity.Task;
+import com.eventplanner.entity.TaskPriority;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskResponse {
+    
+    private UUID id;
+    private UUID eventId;
+    private String title;
+    private String description;
+    private TaskPriority priority;
+    private Integer progress;
+    private LocalDate date;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    
+    public static TaskResponse fromEntity(Task task) {
+        return new TaskResponse(
+            task.getId(),
+            task.getEventId(),
+            task.getTitle(),
+            task.getDescription(),
+            task.getPriority(),
+            task.getProgress(),
+            task.getDate(),
+            task.getCreatedAt(),
+            task.getUpdatedAt()
+        );
+    }
+}
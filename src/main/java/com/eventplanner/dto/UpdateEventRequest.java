@@ -0,0 +1,41 @@
+package com.eventplanner.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Partial update of an event. Fields left out (or null) keep their current value;
+ * {@code version} is the version the client last read and is required.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdateEventRequest {
+    
+    @Size(min = 1, max = 200, message = "Title must be between 1 and 200 characters")
+    @Pattern(regexp = ".*\\S.*", message = "Title must not be blank")
+    private String title;
+    
+    private LocalDate date;
+    
+    @DecimalMin(value = "0.01", message = "Budget must be positive")
+    private BigDecimal budget;
+    
+    @Size(max = 2000, message = "Description must not exceed 2000 characters")
+    private String description;
+    
+    @Min(value = 1, message = "Attendee count must be at least 1")
+    private Integer attendeeCount;
+    
+    @NotNull(message = "Version is required")
+    private Long version;
+    
+    public boolean hasChanges() {
+        return title != null || date != null || budget != null || description != null || attendeeCount != null;
+    }
+}
@@ -0,0 +1,24 @@
+package com.eventplanner.dto;
+
+import com.eventplanner.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * The public part of a user, safe to keep in memory (no password hash).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummary {
+    
+    private UUID id;
+    private String email;
+    
+    public static UserSummary fromEntity(User user) {
+        return new UserSummary(user.getId(), user.getEmail());
+    }
+}
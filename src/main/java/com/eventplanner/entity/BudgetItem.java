@@ -0,0 +1,44 @@
+package com.eventplanner.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "budget_items", indexes = {
+    @Index(name = "idx_budget_items_event_id", columnList = "event_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetItem {
+    
+    @Id
+    @UuidGenerator(style = UuidGenerator.Style.TIME)
+    private UUID id;
+    
+    @Column(name = "event_id", nullable = false)
+    private UUID eventId;
+    
+    @Column(nullable = false, length = 500)
+    @NotBlank(message = "Description is required")
+    @Size(max = 500, message = "Description must not exceed 500 characters")
+    private String description;
+    
+    @Column(nullable = false, precision = 10, scale = 2)
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.01", message = "Amount must be positive")
+    private BigDecimal amount;
+    
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
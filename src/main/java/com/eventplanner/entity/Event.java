@@ -6,7 +6,9 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -14,14 +16,23 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+    @Index(name = "idx_events_user_date_id", columnList = "user_id, date, id"),
+    @Index(name = "idx_events_user_updated_at", columnList = "user_id, updated_at")
+})
+// Entity updates write only the columns that changed
+@DynamicUpdate
+// Not second-level cached: the regions are local to each instance and are not told about
+// writes on other instances. Reads are cached as snapshots by EventReadCache instead
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Event {
     
+    // Time-ordered UUIDs assigned in the application: no database round trip per insert,
+    // so inserts can be batched, and new rows land at the right-hand edge of the primary key index
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidGenerator(style = UuidGenerator.Style.TIME)
     private UUID id;
     
     @Column(name = "user_id", nullable = false)
@@ -51,6 +62,12 @@ public class Event {
     @Min(value = 1, message = "Attendee count must be at least 1")
     private Integer attendeeCount;
     
+    // Sum of this event's budget item amounts. Maintained by BudgetItemService through
+    // EventRepository.addToSpentTotal in the same transaction as each item change, so it
+    // is never written through the entity once inserted.
+    @Column(name = "spent_total", nullable = false, precision = 12, scale = 2, updatable = false)
+    private BigDecimal spentTotal = BigDecimal.ZERO;
+    
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -58,4 +75,9 @@ public class Event {
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+    
+    // Null until persisted, which is how Spring Data tells new events from existing ones
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
@@ -0,0 +1,64 @@
+package com.eventplanner.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_event_priority_date", columnList = "event_id, priority, date, id"),
+    @Index(name = "idx_tasks_event_date", columnList = "event_id, date, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Task {
+    
+    @Id
+    @UuidGenerator(style = UuidGenerator.Style.TIME)
+    private UUID id;
+    
+    @Column(name = "event_id", nullable = false)
+    private UUID eventId;
+    
+    @Column(nullable = false, length = 200)
+    @NotBlank(message = "Title is required")
+    @Size(max = 200, message = "Title must not exceed 200 characters")
+    private String title;
+    
+    @Column(columnDefinition = "TEXT")
+    @Size(max = 1000, message = "Description must not exceed 1000 characters")
+    private String description;
+    
+    @Column(nullable = false)
+    @Convert(converter = TaskPriorityConverter.class)
+    @NotNull(message = "Priority is required")
+    private TaskPriority priority;
+    
+    @Column(nullable = false)
+    @NotNull(message = "Progress is required")
+    @Min(value = 0, message = "Progress must be between 0 and 100")
+    @Max(value = 100, message = "Progress must be between 0 and 100")
+    private Integer progress;
+    
+    @Column(nullable = false)
+    @NotNull(message = "Date is required")
+    private LocalDate date;
+    
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
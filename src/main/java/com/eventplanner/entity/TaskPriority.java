@@ -0,0 +1,50 @@
+package com.eventplanner.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Task priority. Persisted as its rank (1 = High) so that ascending order in SQL is
+ * display order and sorting needs no CASE expression.
+ */
+public enum TaskPriority {
+    HIGH(1, "High"),
+    MEDIUM(2, "Medium"),
+    LOW(3, "Low");
+    
+    private final short rank;
+    private final String label;
+    
+    TaskPriority(int rank, String label) {
+        this.rank = (short) rank;
+        this.label = label;
+    }
+    
+    public short getRank() {
+        return rank;
+    }
+    
+    @JsonValue
+    public String getLabel() {
+        return label;
+    }
+    
+    public static TaskPriority fromRank(short rank) {
+        for (TaskPriority priority : values()) {
+            if (priority.rank == rank) {
+                return priority;
+            }
+        }
+        throw new IllegalArgumentException("Unknown priority rank: " + rank);
+    }
+    
+    @JsonCreator
+    public static TaskPriority fromLabel(String label) {
+        for (TaskPriority priority : values()) {
+            if (priority.label.equalsIgnoreCase(label) || priority.name().equalsIgnoreCase(label)) {
+                return priority;
+            }
+        }
+        throw new IllegalArgumentException("Priority must be one of High, Medium, Low");
+    }
+}
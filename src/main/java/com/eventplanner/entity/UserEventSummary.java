@@ -0,0 +1,43 @@
+package com.eventplanner.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Running totals over one user's events. Changed only through the delta updates in
+ * {@link com.eventplanner.repository.UserEventSummaryRepository}, in the same transaction
+ * as the event change, and recomputed from {@code events} by a rebuild.
+ */
+@Entity
+@Table(name = "user_event_summary")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserEventSummary {
+    
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+    
+    @Column(name = "total_events", nullable = false)
+    private long totalEvents;
+    
+    // Events dated on or after asOf
+    @Column(name = "upcoming_events", nullable = false)
+    private long upcomingEvents;
+    
+    @Column(name = "total_budget", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalBudget = BigDecimal.ZERO;
+    
+    @Column(name = "total_attendees", nullable = false)
+    private long totalAttendees;
+    
+    @Column(name = "as_of", nullable = false)
+    private LocalDate asOf;
+}
@@ -0,0 +1,11 @@
+package com.eventplanner.exception;
+
+/**
+ * Thrown when the requested resource does not exist or belongs to another user; mapped to 404.
+ */
+public class ResourceNotFoundException extends RuntimeException {
+    
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package com.eventplanner.repository;
+
+import com.eventplanner.entity.BudgetItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface BudgetItemRepository extends JpaRepository<BudgetItem, UUID> {
+    List<BudgetItem> findByEventIdOrderByCreatedAtAsc(UUID eventId);
+    Optional<BudgetItem> findByIdAndEventId(UUID id, UUID eventId);
+    
+    @Query("SELECT COALESCE(SUM(b.amount), 0) FROM BudgetItem b WHERE b.eventId = :eventId")
+    BigDecimal sumAmountByEventId(@Param("eventId") UUID eventId);
+}
@@ -1,15 +1,98 @@
 package com.eventplanner.repository;
 
+import com.eventplanner.dto.CalendarEntry;
+import com.eventplanner.dto.EventCollectionVersion;
+import com.eventplanner.dto.EventResponse;
 import com.eventplanner.entity.Event;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface EventRepository extends JpaRepository<Event, UUID> {
+public interface EventRepository extends JpaRepository<Event, UUID>, EventRepositoryCustom {
+    
+    // Constructor projection shared by the DTO read paths below; rows never become managed entities
+    String EVENT_RESPONSE = "SELECT new com.eventplanner.dto.EventResponse(e.id, e.userId, e.title, e.date, e.budget, " +
+                            "e.description, e.attendeeCount, e.spentTotal, e.createdAt, e.updatedAt, e.version) FROM Event e ";
+    
+    // Loaded read-only, so Hibernate keeps no dirty-checking snapshot
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Event> findByUserId(UUID userId);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     Optional<Event> findByIdAndUserId(UUID id, UUID userId);
+    
+    boolean existsByIdAndUserId(UUID id, UUID userId);
+    
+    // Loaders for EventReadCache
+    @Query(EVENT_RESPONSE + "WHERE e.userId = :userId ORDER BY e.date ASC, e.id ASC")
+    List<EventResponse> findResponsesByUserId(@Param("userId") UUID userId);
+    
+    @Query(EVENT_RESPONSE + "WHERE e.id = :id AND e.userId = :userId")
+    Optional<EventResponse> findResponseByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
+    
+    // Keyset pagination on (date, id), served by idx_events_user_date_id
+    @Query(EVENT_RESPONSE + "WHERE e.userId = :userId ORDER BY e.date ASC, e.id ASC")
+    List<EventResponse> findFirstPageByUserId(@Param("userId") UUID userId, Limit limit);
+    
+    @Query(EVENT_RESPONSE + "WHERE e.userId = :userId " +
+           "AND (e.date > :date OR (e.date = :date AND e.id > :id)) " +
+           "ORDER BY e.date ASC, e.id ASC")
+    List<EventResponse> findPageByUserIdAfter(@Param("userId") UUID userId,
+                                              @Param("date") LocalDate date,
+                                              @Param("id") UUID id,
+                                              Limit limit);
+    
+    // Cheap change probe for conditional GETs, served by idx_events_user_updated_at
+    @Query("SELECT new com.eventplanner.dto.EventCollectionVersion(COUNT(e), MAX(e.updatedAt)) " +
+           "FROM Event e WHERE e.userId = :userId")
+    EventCollectionVersion findCollectionVersionByUserId(@Param("userId") UUID userId);
+    
+    // Per-day totals over a date range; a range scan of idx_events_user_date_id, which carries budget and attendee_count
+    @Query("SELECT new com.eventplanner.dto.CalendarEntry(e.date, COUNT(e), SUM(e.budget), SUM(e.attendeeCount)) " +
+           "FROM Event e WHERE e.userId = :userId AND e.date BETWEEN :from AND :to " +
+           "GROUP BY e.date ORDER BY e.date ASC")
+    List<CalendarEntry> findCalendarByUserId(@Param("userId") UUID userId,
+                                             @Param("from") LocalDate from,
+                                             @Param("to") LocalDate to);
+    
+    // Forward-only, read-only cursor; must be consumed inside a transaction
+    @Query(EVENT_RESPONSE + "WHERE e.userId = :userId ORDER BY e.date ASC, e.id ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<EventResponse> streamByUserId(@Param("userId") UUID userId);
+    
+    // Atomic in-database adjustment of the maintained spent total; concurrent item changes serialize on the row lock.
+    // Bumps the version like any other change, and takes updatedAt from the caller's (JVM) clock, as @UpdateTimestamp does
+    @Modifying
+    @Query("UPDATE Event e SET e.spentTotal = e.spentTotal + :delta, e.version = e.version + 1, e.updatedAt = :now " +
+           "WHERE e.id = :id")
+    int addToSpentTotal(@Param("id") UUID id, @Param("delta") BigDecimal delta, @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("UPDATE Event e SET e.spentTotal = :spentTotal, e.version = e.version + 1, e.updatedAt = :now WHERE e.id = :id")
+    int setSpentTotal(@Param("id") UUID id, @Param("spentTotal") BigDecimal spentTotal, @Param("now") LocalDateTime now);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Event e WHERE e.id = :id")
+    Optional<Event> findByIdForUpdate(@Param("id") UUID id);
+    
+    @Query("SELECT e.id FROM Event e " +
+           "WHERE e.spentTotal <> COALESCE((SELECT SUM(b.amount) FROM BudgetItem b WHERE b.eventId = e.id), 0)")
+    List<UUID> findIdsWithSpentTotalDrift();
 }
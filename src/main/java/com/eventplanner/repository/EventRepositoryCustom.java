@@ -0,0 +1,27 @@
+package com.eventplanner.repository;
+
+import com.eventplanner.dto.EventCursor;
+import com.eventplanner.dto.EventField;
+import com.eventplanner.dto.UpdateEventRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+public interface EventRepositoryCustom {
+    
+    /**
+     * Selects only the given columns of the user's events, ordered by (date, id) and
+     * starting after the cursor if there is one. Rows map field name to value and always
+     * contain {@code id} and {@code date}, which the keyset needs.
+     */
+    List<Map<String, Object>> findFieldsByUserId(UUID userId, Set<EventField> fields, EventCursor after, Integer limit);
+    
+    /**
+     * Writes the non-null fields of the update in one conditional statement, which only
+     * matches while the event belongs to the user and is still at the given version. The
+     * version is incremented. Returns the number of rows changed (0 or 1).
+     */
+    int updateFields(UUID id, UUID userId, UpdateEventRequest update);
+}
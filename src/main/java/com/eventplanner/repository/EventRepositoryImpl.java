@@ -0,0 +1,102 @@
+package com.eventplanner.repository;
+
+import com.eventplanner.dto.EventCursor;
+import com.eventplanner.dto.EventField;
+import com.eventplanner.dto.UpdateEventRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse-fieldset reads and partial updates. The select list is built from the
+ * {@link EventField} whitelist, so unrequested columns (notably the TEXT description) are
+ * never fetched, and the scalar result never enters the persistence context. Likewise an
+ * update's SET clause only names the columns being changed.
+ */
+public class EventRepositoryImpl implements EventRepositoryCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<Map<String, Object>> findFieldsByUserId(UUID userId, Set<EventField> fields, EventCursor after, Integer limit) {
+        Set<EventField> selected = EnumSet.of(EventField.ID, EventField.DATE);
+        selected.addAll(fields);
+        String selectList = selected.stream()
+                .map(field -> "e." + field.getName() + " AS " + field.getName())
+                .collect(Collectors.joining(", "));
+        
+        StringBuilder jpql = new StringBuilder("SELECT ").append(selectList)
+                .append(" FROM Event e WHERE e.userId = :userId");
+        if (after != null) {
+            jpql.append(" AND (e.date > :date OR (e.date = :date AND e.id > :id))");
+        }
+        jpql.append(" ORDER BY e.date ASC, e.id ASC");
+        
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class)
+                .setParameter("userId", userId);
+        if (after != null) {
+            query.setParameter("date", after.getDate());
+            query.setParameter("id", after.getId());
+        }
+        if (limit != null) {
+            query.setMaxResults(limit);
+        }
+        
+        List<Tuple> tuples = query.getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (EventField field : selected) {
+                row.put(field.getName(), tuple.get(field.getName()));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+    
+    @Override
+    public int updateFields(UUID id, UUID userId, UpdateEventRequest update) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        putIfPresent(changes, "title", update.getTitle());
+        putIfPresent(changes, "date", update.getDate());
+        putIfPresent(changes, "budget", update.getBudget());
+        putIfPresent(changes, "description", update.getDescription());
+        putIfPresent(changes, "attendeeCount", update.getAttendeeCount());
+        
+        StringBuilder jpql = new StringBuilder("UPDATE Event e SET ");
+        for (String attribute : changes.keySet()) {
+            jpql.append("e.").append(attribute).append(" = :").append(attribute).append(", ");
+        }
+        // Stamped from the JVM clock, like @UpdateTimestamp on inserts, so updatedAt never goes backwards
+        // because the database clock or time zone differs
+        jpql.append("e.version = e.version + 1, e.updatedAt = :now ")
+            .append("WHERE e.id = :id AND e.userId = :userId AND e.version = :version");
+        
+        Query query = entityManager.createQuery(jpql.toString())
+                .setParameter("now", LocalDateTime.now())
+                .setParameter("id", id)
+                .setParameter("userId", userId)
+                .setParameter("version", update.getVersion());
+        changes.forEach(query::setParameter);
+        return query.executeUpdate();
+    }
+    
+    private static void putIfPresent(Map<String, Object> changes, String attribute, Object value) {
+        if (value != null) {
+            changes.put(attribute, value);
+        }
+    }
+}
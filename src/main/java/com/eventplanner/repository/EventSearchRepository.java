@@ -0,0 +1,17 @@
+package com.eventplanner.repository;
+
+import com.eventplanner.dto.EventSearchCursor;
+import com.eventplanner.dto.EventSearchHit;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Ranked search over the title and description of one user's events. Results are ordered
+ * by rank (best first), then id, and paginated with a keyset on that order. The
+ * implementation is chosen with {@code events.search.mode}.
+ */
+public interface EventSearchRepository {
+    
+    List<EventSearchHit> search(UUID userId, String query, EventSearchCursor after, int limit);
+}
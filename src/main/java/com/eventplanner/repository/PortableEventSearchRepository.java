@@ -0,0 +1,101 @@
+package com.eventplanner.repository;
+
+import com.eventplanner.dto.EventResponse;
+import com.eventplanner.dto.EventSearchCursor;
+import com.eventplanner.dto.EventSearchHit;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Database-agnostic fallback (used with H2 in tests): every whitespace-separated term must
+ * occur in the title or description, case-insensitively. A term found in the title scores
+ * 2 and one found only in the description scores 1, mirroring the A/B weights of the
+ * PostgreSQL index. It scans the user's events, so it is not meant for production data.
+ */
+@Repository
+@ConditionalOnProperty(name = "events.search.mode", havingValue = "portable")
+public class PortableEventSearchRepository implements EventSearchRepository {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<EventSearchHit> search(UUID userId, String query, EventSearchCursor after, int limit) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        
+        StringBuilder rank = new StringBuilder("(0");
+        StringBuilder matches = new StringBuilder();
+        for (int i = 0; i < terms.size(); i++) {
+            String title = "LOWER(e.title) LIKE :t" + i + " ESCAPE '\\'";
+            String description = "LOWER(COALESCE(e.description, '')) LIKE :t" + i + " ESCAPE '\\'";
+            rank.append(" + CASE WHEN ").append(title).append(" THEN 2 WHEN ").append(description).append(" THEN 1 ELSE 0 END");
+            matches.append(" AND (").append(title).append(" OR ").append(description).append(")");
+        }
+        rank.append(")");
+        
+        StringBuilder jpql = new StringBuilder("SELECT e.id, e.userId, e.title, e.date, e.budget, e.description, ")
+                .append("e.attendeeCount, e.spentTotal, e.createdAt, e.updatedAt, e.version, ").append(rank)
+                .append(" FROM Event e WHERE e.userId = :userId").append(matches);
+        if (after != null) {
+            jpql.append(" AND (").append(rank).append(" < :afterRank OR (")
+                .append(rank).append(" = :afterRank AND e.id < :afterId))");
+        }
+        jpql.append(" ORDER BY ").append(rank).append(" DESC, e.id DESC");
+        
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(jpql.toString(), Tuple.class)
+                .setParameter("userId", userId)
+                .setMaxResults(limit);
+        for (int i = 0; i < terms.size(); i++) {
+            typedQuery.setParameter("t" + i, "%" + terms.get(i) + "%");
+        }
+        if (after != null) {
+            typedQuery.setParameter("afterRank", Math.round(after.getRank()));
+            typedQuery.setParameter("afterId", after.getId());
+        }
+        
+        List<EventSearchHit> hits = new ArrayList<>();
+        for (Tuple row : typedQuery.getResultList()) {
+            EventResponse event = new EventResponse(
+                row.get(0, UUID.class),
+                row.get(1, UUID.class),
+                row.get(2, String.class),
+                row.get(3, LocalDate.class),
+                row.get(4, BigDecimal.class),
+                row.get(5, String.class),
+                row.get(6, Integer.class),
+                row.get(7, BigDecimal.class),
+                row.get(8, LocalDateTime.class),
+                row.get(9, LocalDateTime.class),
+                row.get(10, Long.class)
+            );
+            hits.add(new EventSearchHit(event, ((Number) row.get(11)).floatValue()));
+        }
+        return hits;
+    }
+    
+    // Lower-cased terms with LIKE wildcards escaped
+    private static List<String> terms(String query) {
+        List<String> terms = new ArrayList<>();
+        for (String term : query.toLowerCase(Locale.ROOT).trim().split("\\s+")) {
+            if (!term.isEmpty()) {
+                terms.add(term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_"));
+            }
+        }
+        return terms;
+    }
+}
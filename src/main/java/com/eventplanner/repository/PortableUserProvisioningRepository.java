@@ -0,0 +1,62 @@
+package com.eventplanner.repository;
+
+import com.eventplanner.entity.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Fallback for databases without {@code ON CONFLICT} (e.g. H2 in tests): looks up the
+ * emails that are already taken, then batch-inserts the rest. A user created concurrently
+ * between the two steps fails the whole batch with a unique-constraint violation.
+ */
+@Repository
+@ConditionalOnProperty(name = "users.provisioning.mode", havingValue = "portable")
+public class PortableUserProvisioningRepository implements UserProvisioningRepository {
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Override
+    @Transactional
+    public Set<UUID> insertMissing(List<User> users) {
+        if (users.isEmpty()) {
+            return Set.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(users.size(), "?"));
+        Set<String> taken = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT email FROM users WHERE email IN (" + placeholders + ")",
+                String.class,
+                users.stream().map(User::getEmail).toArray()));
+        
+        List<User> missing = users.stream()
+                .filter(user -> !taken.contains(user.getEmail()))
+                .collect(Collectors.toList());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (id, email, password_hash, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                missing.stream()
+                        .map(user -> new Object[]{user.getId(), user.getEmail(), user.getPasswordHash(), now, now})
+                        .collect(Collectors.toList()));
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO user_event_summary " +
+                "(user_id, total_events, upcoming_events, total_budget, total_attendees, as_of) " +
+                "VALUES (?, 0, 0, 0, 0, ?)",
+                missing.stream()
+                        .map(user -> new Object[]{user.getId(), LocalDate.now()})
+                        .collect(Collectors.toList()));
+        return missing.stream().map(User::getId).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,82 @@
+package com.eventplanner.repository;
+
+import com.eventplanner.dto.EventResponse;
+import com.eventplanner.dto.EventSearchCursor;
+import com.eventplanner.dto.EventSearchHit;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.query.NativeQuery;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL full-text search on the generated {@code events.search_vector} column (GIN
+ * indexed, see V10). The query string is parsed with {@code websearch_to_tsquery}, so
+ * users can write quoted phrases, {@code or} and {@code -exclusions}.
+ */
+@Repository
+@ConditionalOnProperty(name = "events.search.mode", havingValue = "postgres", matchIfMissing = true)
+public class PostgresEventSearchRepository implements EventSearchRepository {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<EventSearchHit> search(UUID userId, String query, EventSearchCursor after, int limit) {
+        // Rank and page on ids only; the rank has to be computed before the keyset can apply to it
+        StringBuilder sql = new StringBuilder(
+                "SELECT id, rank FROM (" +
+                "  SELECT e.id AS id, ts_rank(e.search_vector, q) AS rank" +
+                "  FROM events e, websearch_to_tsquery('english', :query) q" +
+                "  WHERE e.user_id = :userId AND e.search_vector @@ q" +
+                ") hits");
+        if (after != null) {
+            sql.append(" WHERE rank < :afterRank OR (rank = :afterRank AND id < :afterId)");
+        }
+        sql.append(" ORDER BY rank DESC, id DESC LIMIT :limit");
+        
+        Query nativeQuery = entityManager.createNativeQuery(sql.toString())
+                .setParameter("query", query)
+                .setParameter("userId", userId)
+                .setParameter("limit", limit);
+        if (after != null) {
+            nativeQuery.setParameter("afterRank", after.getRank());
+            nativeQuery.setParameter("afterId", after.getId());
+        }
+        List<Object[]> ranked = nativeQuery.unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .addScalar("rank", Float.class)
+                .getResultList();
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+        
+        // Then fetch the page's rows as DTOs and put them back in rank order
+        List<UUID> ids = ranked.stream().map(row -> (UUID) row[0]).collect(Collectors.toList());
+        Map<UUID, EventResponse> events = entityManager.createQuery(
+                        EventRepository.EVENT_RESPONSE + "WHERE e.userId = :userId AND e.id IN :ids", EventResponse.class)
+                .setParameter("userId", userId)
+                .setParameter("ids", ids)
+                .getResultStream()
+                .collect(Collectors.toMap(EventResponse::getId, Function.identity()));
+        
+        List<EventSearchHit> hits = new ArrayList<>(ranked.size());
+        for (Object[] row : ranked) {
+            EventResponse event = events.get((UUID) row[0]);
+            // Deleted between the two queries
+            if (event != null) {
+                hits.add(new EventSearchHit(event, (Float) row[1]));
+            }
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,103 @@
+package com.eventplanner.repository;
+
+import com.eventplanner.entity.User;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * One statement per batch: {@code INSERT ... ON CONFLICT (email) DO NOTHING RETURNING id},
+ * with the summary rows inserted by a second data-modifying CTE over the returned ids, so
+ * concurrent provisioning of the same email never fails. With {@code users.provisioning.copy}
+ * the batch is instead streamed into a temporary table with COPY and inserted from there,
+ * which avoids binding three parameters per row.
+ */
+@Repository
+@ConditionalOnProperty(name = "users.provisioning.mode", havingValue = "postgres", matchIfMissing = true)
+public class PostgresUserProvisioningRepository implements UserProvisioningRepository {
+    
+    private static final String INSERT_PREFIX =
+            "WITH inserted AS (INSERT INTO users (id, email, password_hash, created_at, updated_at) ";
+    
+    private static final String INSERT_SUFFIX =
+            " ON CONFLICT (email) DO NOTHING RETURNING id), " +
+            "summaries AS (INSERT INTO user_event_summary " +
+            "(user_id, total_events, upcoming_events, total_budget, total_attendees, as_of) " +
+            "SELECT id, 0, 0, 0, 0, CURRENT_DATE FROM inserted) " +
+            "SELECT id FROM inserted";
+    
+    // Lives as long as the pooled connection; emptied at the end of every transaction
+    private static final String CREATE_STAGING =
+            "CREATE TEMP TABLE IF NOT EXISTS users_import " +
+            "(id UUID, email VARCHAR(255), password_hash VARCHAR(255)) ON COMMIT DELETE ROWS";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Value("${users.provisioning.copy:false}")
+    private boolean useCopy;
+    
+    @Override
+    @Transactional
+    public Set<UUID> insertMissing(List<User> users) {
+        if (users.isEmpty()) {
+            return Set.of();
+        }
+        return useCopy ? copyAndInsert(users) : insertValues(users);
+    }
+    
+    private Set<UUID> insertValues(List<User> users) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX).append("VALUES ");
+        List<Object> args = new ArrayList<>(users.size() * 3);
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, now(), now())");
+            args.add(user.getId());
+            args.add(user.getEmail());
+            args.add(user.getPasswordHash());
+        }
+        sql.append(INSERT_SUFFIX);
+        return new HashSet<>(jdbcTemplate.queryForList(sql.toString(), UUID.class, args.toArray()));
+    }
+    
+    private Set<UUID> copyAndInsert(List<User> users) {
+        jdbcTemplate.execute(CREATE_STAGING);
+        
+        StringBuilder csv = new StringBuilder();
+        for (User user : users) {
+            csv.append(user.getId()).append(',')
+                    .append(quote(user.getEmail())).append(',')
+                    .append(quote(user.getPasswordHash())).append('\n');
+        }
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI()
+                        .copyIn("COPY users_import (id, email, password_hash) FROM STDIN WITH (FORMAT csv)",
+                                new StringReader(csv.toString()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        
+        String sql = INSERT_PREFIX + "SELECT id, email, password_hash, now(), now() FROM users_import" + INSERT_SUFFIX;
+        return new HashSet<>(jdbcTemplate.queryForList(sql, UUID.class));
+    }
+    
+    private static String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,11 @@
+package com.eventplanner.repository;
+
+import com.eventplanner.entity.Task;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskRepositoryCustom {
+}
@@ -0,0 +1,17 @@
+package com.eventplanner.repository;
+
+import com.eventplanner.dto.TaskCursor;
+import com.eventplanner.dto.TaskFilter;
+import com.eventplanner.entity.Task;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TaskRepositoryCustom {
+    
+    /**
+     * Returns up to {@code limit} tasks of the event matching the filter, in the filter's
+     * sort order, starting after the given cursor (or from the start when it is null).
+     */
+    List<Task> findPage(UUID eventId, TaskFilter filter, TaskCursor after, int limit);
+}
@@ -0,0 +1,65 @@
+package com.eventplanner.repository;
+
+import com.eventplanner.dto.TaskCursor;
+import com.eventplanner.dto.TaskFilter;
+import com.eventplanner.entity.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Builds the task list query with only the predicates that apply, so the planner sees a
+ * plain equality/range prefix on the composite index rather than "(:p IS NULL OR ...)".
+ */
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<Task> findPage(UUID eventId, TaskFilter filter, TaskCursor after, int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT t FROM Task t WHERE t.eventId = :eventId");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("eventId", eventId);
+        
+        if (filter.getPriority() != null) {
+            jpql.append(" AND t.priority = :priority");
+            parameters.put("priority", filter.getPriority());
+        }
+        
+        if (filter.getStatus() != null) {
+            switch (filter.getStatus()) {
+                case NOT_STARTED -> jpql.append(" AND t.progress = 0");
+                case IN_PROGRESS -> jpql.append(" AND t.progress > 0 AND t.progress < 100");
+                case COMPLETED -> jpql.append(" AND t.progress = 100");
+            }
+        }
+        
+        boolean byPriority = filter.getSort() != TaskFilter.Sort.DATE;
+        if (after != null) {
+            String dateAndId = "(t.date > :afterDate OR (t.date = :afterDate AND t.id > :afterId))";
+            if (byPriority) {
+                jpql.append(" AND (t.priority > :afterPriority OR (t.priority = :afterPriority AND ")
+                    .append(dateAndId).append("))");
+                parameters.put("afterPriority", after.getPriority());
+            } else {
+                jpql.append(" AND ").append(dateAndId);
+            }
+            parameters.put("afterDate", after.getDate());
+            parameters.put("afterId", after.getId());
+        }
+        
+        jpql.append(byPriority
+                ? " ORDER BY t.priority ASC, t.date ASC, t.id ASC"
+                : " ORDER BY t.date ASC, t.id ASC");
+        
+        TypedQuery<Task> query = entityManager.createQuery(jpql.toString(), Task.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
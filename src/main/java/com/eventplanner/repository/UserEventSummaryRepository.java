@@ -0,0 +1,107 @@
+package com.eventplanner.repository;
+
+import com.eventplanner.entity.UserEventSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Delta updates compare event dates with the row's own {@code asOf}, so they stay exact
+ * even when the daily roll-forward has not run yet.
+ */
+@Repository
+public interface UserEventSummaryRepository extends JpaRepository<UserEventSummary, UUID> {
+    
+    String CURRENT_EVENT = "FROM Event e WHERE e.id = :eventId AND e.userId = s.userId AND e.version = :version";
+    
+    // Adds count events, all dated on the given day
+    @Modifying
+    @Query("UPDATE UserEventSummary s SET s.totalEvents = s.totalEvents + :count, " +
+           "s.upcomingEvents = s.upcomingEvents + CASE WHEN :date >= s.asOf THEN :count ELSE 0 END, " +
+           "s.totalBudget = s.totalBudget + :budget, s.totalAttendees = s.totalAttendees + :attendees " +
+           "WHERE s.userId = :userId")
+    int addEvents(@Param("userId") UUID userId,
+                  @Param("date") LocalDate date,
+                  @Param("count") long count,
+                  @Param("budget") BigDecimal budget,
+                  @Param("attendees") long attendees);
+    
+    /**
+     * Applies a partial update of one event, taking the old date, budget and attendees from the
+     * event row itself (null arguments keep the old value). Matches only while the event is still
+     * at {@code version}, so it must run before the event's own UPDATE; returns 0 if the event is
+     * missing or stale, or the user has no summary row.
+     */
+    @Modifying
+    @Query("UPDATE UserEventSummary s SET " +
+           "s.upcomingEvents = s.upcomingEvents + (SELECT CASE WHEN COALESCE(:date, e.date) >= s.asOf THEN 1 ELSE 0 END " +
+           "- CASE WHEN e.date >= s.asOf THEN 1 ELSE 0 END " + CURRENT_EVENT + "), " +
+           "s.totalBudget = s.totalBudget + (SELECT COALESCE(:budget, e.budget) - e.budget " + CURRENT_EVENT + "), " +
+           "s.totalAttendees = s.totalAttendees + (SELECT COALESCE(:attendees, e.attendeeCount) - e.attendeeCount " + CURRENT_EVENT + ") " +
+           "WHERE s.userId = :userId AND EXISTS (SELECT 1 " + CURRENT_EVENT + ")")
+    int updateEvent(@Param("userId") UUID userId,
+                    @Param("eventId") UUID eventId,
+                    @Param("version") Long version,
+                    @Param("date") LocalDate date,
+                    @Param("budget") BigDecimal budget,
+                    @Param("attendees") Integer attendees);
+    
+    /**
+     * Locks up to {@code limit} rows whose {@code asOf} is before today. Holding the lock makes
+     * a concurrent event insert for the same user commit (and become visible) before the roll.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserEventSummary s WHERE s.asOf < :today ORDER BY s.userId")
+    List<UserEventSummary> findStaleForUpdate(@Param("today") LocalDate today, Limit limit);
+    
+    // Moves the rows to today, no longer counting the events that have passed since their asOf
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE UserEventSummary s SET s.upcomingEvents = s.upcomingEvents - " +
+           "(SELECT COUNT(e) FROM Event e WHERE e.userId = s.userId AND e.date >= s.asOf AND e.date < :today), " +
+           "s.asOf = :today WHERE s.userId IN :userIds AND s.asOf < :today")
+    int rollForward(@Param("userIds") Collection<UUID> userIds, @Param("today") LocalDate today);
+    
+    // Events that have passed between the row's asOf and today; a range scan of idx_events_user_date_id
+    @Query("SELECT COUNT(e) FROM Event e WHERE e.userId = :userId AND e.date >= :asOf AND e.date < :today")
+    long countPassedSince(@Param("userId") UUID userId, @Param("asOf") LocalDate asOf, @Param("today") LocalDate today);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserEventSummary s WHERE s.userId = :userId")
+    Optional<UserEventSummary> findByUserIdForUpdate(@Param("userId") UUID userId);
+    
+    // Keyset pages of all rows, for verification
+    List<UserEventSummary> findByOrderByUserId(Limit limit);
+    
+    List<UserEventSummary> findByUserIdGreaterThanOrderByUserId(UUID userId, Limit limit);
+    
+    /**
+     * The rollup recomputed from {@code events} for the given users' rows, each as of the row's
+     * own {@code asOf}. Users without events have no result row.
+     */
+    @Query("SELECT new com.eventplanner.entity.UserEventSummary(s.userId, COUNT(e), " +
+           "SUM(CASE WHEN e.date >= s.asOf THEN 1 ELSE 0 END), SUM(e.budget), SUM(e.attendeeCount), s.asOf) " +
+           "FROM UserEventSummary s JOIN Event e ON e.userId = s.userId " +
+           "WHERE s.userId IN :userIds GROUP BY s.userId, s.asOf")
+    List<UserEventSummary> computeForSummaries(@Param("userIds") Collection<UUID> userIds);
+    
+    @Query("SELECT DISTINCT e.userId FROM Event e " +
+           "WHERE NOT EXISTS (SELECT 1 FROM UserEventSummary s WHERE s.userId = e.userId)")
+    List<UUID> findUserIdsWithoutSummary();
+    
+    @Query("SELECT new com.eventplanner.entity.UserEventSummary(e.userId, COUNT(e), " +
+           "SUM(CASE WHEN e.date >= :today THEN 1 ELSE 0 END), SUM(e.budget), SUM(e.attendeeCount), :today) " +
+           "FROM Event e WHERE e.userId = :userId GROUP BY e.userId")
+    Optional<UserEventSummary> computeForUser(@Param("userId") UUID userId, @Param("today") LocalDate today);
+}
@@ -0,0 +1,20 @@
+package com.eventplanner.repository;
+
+import com.eventplanner.entity.User;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Set-based insert of many users at once, bypassing the persistence context.
+ */
+public interface UserProvisioningRepository {
+    
+    /**
+     * Inserts the users (id, email and password hash already set) whose email is not taken,
+     * each with an empty event summary, in one transaction. Emails must be distinct. Returns
+     * the ids that were inserted; the other users already existed and were left unchanged.
+     */
+    Set<UUID> insertMissing(List<User> users);
+}
@@ -0,0 +1,14 @@
+package com.eventplanner.repository;
+
+import com.eventplanner.entity.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+    
+    /**
+     * Looks the user up by natural id, so repeated lookups of an existing email are served
+     * from the second-level cache. Unknown emails are not cached and always query the database.
+     */
+    Optional<User> findByEmail(String email);
+}
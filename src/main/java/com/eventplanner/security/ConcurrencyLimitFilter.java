@@ -0,0 +1,124 @@
+package com.eventplanner.security;
+
+import com.eventplanner.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the number of requests in flight. With virtual threads there is no worker pool to
+ * bound concurrency, so without this every request would queue on the connection pool
+ * and time out there; instead excess requests wait briefly on a semaphore (which does not
+ * pin a carrier thread) and are shed with 503 if no permit frees up. An async request
+ * keeps its permit until it completes, not just until its handler returns. Long-lived
+ * streams (SSE) are not limited here: they hold no thread or connection while idle, and
+ * would otherwise keep their permits for the whole connection.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    
+    private final Semaphore permits;
+    
+    private final long acquireTimeoutMillis;
+    
+    private final ObjectMapper objectMapper;
+    
+    private final Set<String> streamPaths;
+    
+    public ConcurrencyLimitFilter(int maxConcurrentRequests, long acquireTimeoutMillis, ObjectMapper objectMapper,
+                                  Set<String> streamPaths) {
+        this.permits = new Semaphore(maxConcurrentRequests);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.objectMapper = objectMapper;
+        this.streamPaths = streamPaths;
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return streamPaths.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        
+        if (!acquired) {
+            ErrorResponse error = new ErrorResponse("Server is at capacity, try again later", "SERVICE_OVERLOADED");
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), error);
+            return;
+        }
+        
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // The handler returned but its work (e.g. the async login) is still running
+                request.getAsyncContext().addListener(new ReleaseOnCompletion());
+            } else {
+                permits.release();
+            }
+        }
+    }
+    
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+    
+    /**
+     * Releases the permit once the async request ends, however it ends.
+     */
+    private class ReleaseOnCompletion implements AsyncListener {
+        
+        private final AtomicBoolean released = new AtomicBoolean();
+        
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+        
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+        
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+        
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+        
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+}
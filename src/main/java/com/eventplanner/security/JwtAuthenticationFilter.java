@@ -1,5 +1,9 @@
 package com.eventplanner.security;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,7 +17,9 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -21,6 +27,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private JwtUtil jwtUtil;
     
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    private Timer validTokenTimer;
+    
+    private Timer invalidTokenTimer;
+    
+    @PostConstruct
+    void init() {
+        validTokenTimer = verificationTimer("valid");
+        invalidTokenTimer = verificationTimer("invalid");
+    }
+    
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
                                     HttpServletResponse response, 
@@ -31,11 +50,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
             
-            if (jwtUtil.validateToken(token)) {
-                UUID userId = jwtUtil.getUserIdFromToken(token);
+            long start = System.nanoTime();
+            Optional<Claims> claims = jwtUtil.verifyToken(token);
+            (claims.isPresent() ? validTokenTimer : invalidTokenTimer)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            
+            if (claims.isPresent()) {
+                UUID userId = jwtUtil.getUserId(claims.get());
                 
+                // The verified claims ride along as the credentials so handlers can read them without a lookup
                 UsernamePasswordAuthenticationToken authentication = 
-                    new UsernamePasswordAuthenticationToken(userId, null, new ArrayList<>());
+                    new UsernamePasswordAuthenticationToken(userId, claims.get(), new ArrayList<>());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -44,4 +69,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         filterChain.doFilter(request, response);
     }
+    
+    private Timer verificationTimer(String outcome) {
+        return Timer.builder("security.jwt.verification")
+                .description("Time to verify a bearer token, including verified-token cache hits")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 }
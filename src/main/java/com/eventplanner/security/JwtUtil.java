@@ -1,62 +1,101 @@
 package com.eventplanner.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
 public class JwtUtil {
-    
+
     @Value("${jwt.secret}")
     private String secret;
-    
+
     @Value("${jwt.expiration}")
     private Long expiration;
-    
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Autowired
+    private TokenDenyList tokenDenyList;
+
+    private SecretKey signingKey;
+
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        // The key and parser are immutable and thread-safe, so build them once
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
-    
+
     public String generateToken(UUID userId, String email) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
-        
+
         return Jwts.builder()
-                .setSubject(userId.toString())
+                .id(UUID.randomUUID().toString())
+                .subject(userId.toString())
                 .claim("email", email)
-                .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
     }
-    
+
+    /**
+     * Verifies the token and returns its claims, parsing and checking the signature
+     * at most once per distinct token while it remains in the verified-token cache.
+     * Revoked tokens are rejected even when their claims are still cached.
+     */
+    public Optional<Claims> verifyToken(String token) {
+        Claims claims = verifiedTokenCache.get(token);
+        if (claims == null) {
+            try {
+                claims = parseClaims(token);
+            } catch (JwtException | IllegalArgumentException e) {
+                return Optional.empty();
+            }
+            verifiedTokenCache.put(token, claims);
+        }
+
+        if (tokenDenyList.isRevoked(claims.getId())) {
+            return Optional.empty();
+        }
+        return Optional.of(claims);
+    }
+
+    public Claims parseClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
     public UUID getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        
+        Claims claims = verifyToken(token)
+                .orElseThrow(() -> new JwtException("Invalid token"));
+
+        return getUserId(claims);
+    }
+
+    public UUID getUserId(Claims claims) {
         return UUID.fromString(claims.getSubject());
     }
-    
+
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return verifyToken(token).isPresent();
     }
 }
@@ -0,0 +1,54 @@
+package com.eventplanner.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * Authenticates operators on the actuator paths: a request carrying the shared
+ * {@code security.operator-token} in {@code X-Operator-Token} gets {@link #OPERATOR_ROLE}.
+ * End users' JWTs never carry that role. With no token configured, nobody does.
+ */
+public class OperatorTokenFilter extends OncePerRequestFilter {
+    
+    public static final String TOKEN_HEADER = "X-Operator-Token";
+    
+    public static final String OPERATOR_ROLE = "OPERATOR";
+    
+    private final byte[] operatorToken;
+    
+    public OperatorTokenFilter(String operatorToken) {
+        this.operatorToken = operatorToken.getBytes(StandardCharsets.UTF_8);
+    }
+    
+    // Not on /api/*, whose handlers expect a user id as the principal
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return operatorToken.length == 0 || !request.getRequestURI().startsWith("/actuator/");
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        
+        String token = request.getHeader(TOKEN_HEADER);
+        if (token != null && MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), operatorToken)) {
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                    "operator", null, List.of(new SimpleGrantedAuthority("ROLE_" + OPERATOR_ROLE)));
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+        }
+        
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,89 @@
+package com.eventplanner.security;
+
+import com.eventplanner.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Rejects clients that exceed their request budget with 429. Runs right after
+ * {@link JwtAuthenticationFilter}, so authenticated requests are counted per user id;
+ * login attempts (and other anonymous requests) are counted per remote address.
+ * Every response carries {@code RateLimit-Limit}, {@code RateLimit-Remaining} and
+ * {@code RateLimit-Reset}; rejections add {@code Retry-After}.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+    
+    public static final String LIMIT_HEADER = "RateLimit-Limit";
+    public static final String REMAINING_HEADER = "RateLimit-Remaining";
+    public static final String RESET_HEADER = "RateLimit-Reset";
+    
+    private static final String LOGIN_PATH = "/api/auth/login";
+    
+    private final RateLimiter loginLimiter;
+    
+    private final RateLimiter apiLimiter;
+    
+    private final ObjectMapper objectMapper;
+    
+    public RateLimitFilter(RateLimiter loginLimiter, RateLimiter apiLimiter, ObjectMapper objectMapper) {
+        this.loginLimiter = loginLimiter;
+        this.apiLimiter = apiLimiter;
+        this.objectMapper = objectMapper;
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/")
+                || HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        
+        RateLimiter.Decision decision;
+        if (LOGIN_PATH.equals(request.getRequestURI())) {
+            decision = loginLimiter.tryConsume("ip:" + request.getRemoteAddr());
+        } else {
+            decision = apiLimiter.tryConsume(clientKey(request));
+        }
+        
+        response.setHeader(LIMIT_HEADER, String.valueOf(decision.getLimit()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(decision.getRemaining()));
+        response.setHeader(RESET_HEADER, String.valueOf(decision.getResetSeconds()));
+        
+        if (!decision.isAllowed()) {
+            ErrorResponse error = new ErrorResponse("Too many requests, try again later", "RATE_LIMITED");
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.getRetryAfterSeconds()));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), error);
+            return;
+        }
+        
+        filterChain.doFilter(request, response);
+    }
+    
+    // Remote address is the direct peer; behind a proxy, enable server.forward-headers-strategy to resolve the client
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UUID userId) {
+            return "user:" + userId;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
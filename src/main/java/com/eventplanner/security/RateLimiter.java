@@ -0,0 +1,122 @@
+package com.eventplanner.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets keyed by client (user id or IP address). A bucket holds up to
+ * {@code capacity} tokens and refills continuously at {@code refillPerSecond}.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding the time at which it will be full
+ * again (the generic cell rate algorithm), updated with a CAS loop, so requests never
+ * block each other. A bucket left idle for as long as a full refill takes is
+ * indistinguishable from a new one, which is exactly when it is evicted.
+ */
+public class RateLimiter {
+    
+    private final int capacity;
+    
+    private final long nanosPerToken;
+    
+    private final LongSupplier nanoClock;
+    
+    private final Cache<String, AtomicLong> buckets;
+    
+    public RateLimiter(int capacity, double refillPerSecond, long maxKeys) {
+        this(capacity, refillPerSecond, maxKeys, System::nanoTime);
+    }
+    
+    RateLimiter(int capacity, double refillPerSecond, long maxKeys, LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limit capacity and refill rate must be positive");
+        }
+        this.capacity = capacity;
+        this.nanosPerToken = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos(nanosPerToken * capacity))
+                .build();
+    }
+    
+    public Decision tryConsume(String key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong fullAt = buckets.get(key, k -> new AtomicLong(now));
+        long window = nanosPerToken * capacity;
+        
+        while (true) {
+            long current = fullAt.get();
+            // Taking a token pushes the "full again" time one token interval further out
+            long next = Math.max(current - now, 0) + nanosPerToken;
+            if (next > window) {
+                long retryAfter = next - window;
+                return new Decision(false, capacity, 0, current - now, retryAfter);
+            }
+            if (fullAt.compareAndSet(current, now + next)) {
+                int remaining = (int) ((window - next) / nanosPerToken);
+                return new Decision(true, capacity, remaining, next, 0);
+            }
+        }
+    }
+    
+    public int getCapacity() {
+        return capacity;
+    }
+    
+    public long size() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+    
+    /**
+     * Outcome of one request against a bucket. Times are in nanoseconds from now.
+     */
+    public static final class Decision {
+        
+        private final boolean allowed;
+        private final int limit;
+        private final int remaining;
+        private final long resetNanos;
+        private final long retryAfterNanos;
+        
+        Decision(boolean allowed, int limit, int remaining, long resetNanos, long retryAfterNanos) {
+            this.allowed = allowed;
+            this.limit = limit;
+            this.remaining = remaining;
+            this.resetNanos = resetNanos;
+            this.retryAfterNanos = retryAfterNanos;
+        }
+        
+        public boolean isAllowed() {
+            return allowed;
+        }
+        
+        public int getLimit() {
+            return limit;
+        }
+        
+        public int getRemaining() {
+            return remaining;
+        }
+        
+        /** Seconds until the bucket is full again, rounded up. */
+        public long getResetSeconds() {
+            return toSecondsCeil(resetNanos);
+        }
+        
+        /** Seconds until the next token is available, rounded up (0 when allowed). */
+        public long getRetryAfterSeconds() {
+            return toSecondsCeil(retryAfterNanos);
+        }
+        
+        private static long toSecondsCeil(long nanos) {
+            long second = TimeUnit.SECONDS.toNanos(1);
+            return (nanos + second - 1) / second;
+        }
+    }
+}
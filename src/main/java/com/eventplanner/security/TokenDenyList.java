@@ -0,0 +1,93 @@
+package com.eventplanner.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory set of revoked token ids ({@code jti}). Each entry expires on its own at the
+ * token's {@code exp}, after which the token is rejected as expired anyway. Lookups for
+ * tokens that were never revoked, the common case, are answered by a Bloom filter
+ * without touching the map.
+ * <p>
+ * Unlike the other caches this one has no size bound: evicting an entry would silently
+ * un-revoke a token.
+ */
+@Component
+public class TokenDenyList {
+    
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    
+    private final int expectedRevocations;
+    
+    // jti -> expiry in epoch millis
+    private final Cache<String, Long> revoked;
+    
+    private volatile BloomFilter filter;
+    
+    public TokenDenyList(@Value("${jwt.revocation.expected-revocations:100000}") int expectedRevocations) {
+        this.expectedRevocations = expectedRevocations;
+        this.revoked = Caffeine.newBuilder()
+                .expireAfter(new ExpiresAt())
+                .build();
+        this.filter = new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+    }
+    
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        return revoked.getIfPresent(jti) != null;
+    }
+    
+    /**
+     * Revokes the token id until {@code expiresAtMillis}; already expired ids are ignored.
+     */
+    public synchronized void revoke(String jti, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        revoked.put(jti, expiresAtMillis);
+        filter.put(jti);
+    }
+    
+    /**
+     * Replaces the Bloom filter with one holding only the live entries, so ids whose tokens
+     * have expired stop costing map lookups. Synchronized with {@link #revoke} so no
+     * revocation can be missing from the new filter.
+     */
+    public synchronized void rebuildFilter() {
+        revoked.cleanUp();
+        int live = (int) revoked.estimatedSize();
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, live * 2), FALSE_POSITIVE_RATE);
+        revoked.asMap().keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+    }
+    
+    public long size() {
+        return revoked.estimatedSize();
+    }
+    
+    private static class ExpiresAt implements Expiry<String, Long> {
+        
+        @Override
+        public long expireAfterCreate(String jti, Long expiresAtMillis, long currentTime) {
+            long remainingMillis = expiresAtMillis - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMillis));
+        }
+        
+        @Override
+        public long expireAfterUpdate(String jti, Long expiresAtMillis, long currentTime, long currentDuration) {
+            return expireAfterCreate(jti, expiresAtMillis, currentTime);
+        }
+        
+        @Override
+        public long expireAfterRead(String jti, Long expiresAtMillis, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
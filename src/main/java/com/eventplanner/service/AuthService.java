@@ -4,36 +4,132 @@ import com.eventplanner.dto.AuthResponse;
 import com.eventplanner.dto.LoginRequest;
 import com.eventplanner.entity.User;
 import com.eventplanner.repository.UserRepository;
+import com.eventplanner.exception.ServiceOverloadedException;
 import com.eventplanner.security.JwtUtil;
+import com.eventplanner.security.PasswordHasher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 @Service
 public class AuthService {
     
+    private static final Logger log = LoggerFactory.getLogger(AuthService.class);
+    
     @Autowired
     private UserRepository userRepository;
     
     @Autowired
     private PasswordEncoder passwordEncoder;
     
+    @Autowired
+    private PasswordHasher passwordHasher;
+    
     @Autowired
     private JwtUtil jwtUtil;
     
-    public AuthResponse login(LoginRequest loginRequest) {
-        User user = userRepository.findByEmail(loginRequest.getEmail())
-                .orElseThrow(() -> new RuntimeException("Invalid credentials"));
-        
-        if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPasswordHash())) {
-            throw new RuntimeException("Invalid credentials");
+    @Autowired
+    private UserCache userCache;
+    
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+    
+    @Autowired
+    private EventSummaryService eventSummaryService;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor taskExecutor;
+    
+    // Users whose password is being rehashed on this instance
+    private final Set<UUID> rehashing = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * Checks the credentials on the password-hashing pool. The returned future fails with
+     * {@link ServiceOverloadedException} when that pool is saturated.
+     */
+    public CompletableFuture<AuthResponse> login(LoginRequest loginRequest) {
+        Optional<User> found = userRepository.findByEmail(loginRequest.getEmail());
+        if (found.isEmpty()) {
+            return CompletableFuture.failedFuture(new RuntimeException("Invalid credentials"));
         }
+        User user = found.get();
         
-        String token = jwtUtil.generateToken(user.getId(), user.getEmail());
-        
-        return new AuthResponse(token, user.getId(), user.getEmail());
+        return passwordHasher.matches(loginRequest.getPassword(), user.getPasswordHash())
+                .thenApply(matches -> {
+                    if (!matches) {
+                        throw new RuntimeException("Invalid credentials");
+                    }
+                    if (passwordHasher.needsRehash(user.getPasswordHash())) {
+                        rehash(user, loginRequest.getPassword());
+                    }
+                    
+                    String token = jwtUtil.generateToken(user.getId(), user.getEmail());
+                    
+                    return new AuthResponse(token, user.getId(), user.getEmail());
+                });
+    }
+    
+    // Re-encodes the password with the configured cost factor; the login itself does not wait for it.
+    // Only the hashing runs on the hashing pool, whose workers are needed for logins; the write
+    // runs on the application task executor
+    private void rehash(User user, String rawPassword) {
+        // Concurrent logins of the same user hash it once
+        if (!rehashing.add(user.getId())) {
+            return;
+        }
+        String verifiedHash = user.getPasswordHash();
+        passwordHasher.encode(rawPassword)
+                .thenAcceptAsync(passwordHash -> updatePasswordHash(user.getId(), verifiedHash, passwordHash), taskExecutor)
+                .whenComplete((ignored, e) -> {
+                    rehashing.remove(user.getId());
+                    if (e != null) {
+                        log.warn("Could not rehash password for user {}: {}", user.getId(), e.getMessage());
+                    }
+                });
+    }
+    
+    // Skipped when the stored hash is no longer the one the login verified, i.e. it was already upgraded
+    private void updatePasswordHash(UUID userId, String verifiedHash, String passwordHash) {
+        Boolean updated = new TransactionTemplate(transactionManager).execute(status ->
+                userRepository.findById(userId)
+                        .filter(stored -> stored.getPasswordHash().equals(verifiedHash))
+                        .map(stored -> {
+                            stored.setPasswordHash(passwordHash);
+                            return true;
+                        })
+                        .orElse(false));
+        if (Boolean.TRUE.equals(updated)) {
+            userCache.invalidate(userId);
+        }
+    }
+    
+    /**
+     * Revokes the token so it is rejected from now on, on this and (after the next sync)
+     * every other instance.
+     */
+    public void logout(String token) {
+        jwtUtil.verifyToken(token)
+                .ifPresent(claims -> tokenRevocationService.revoke(token, claims));
     }
     
+    @Transactional
     public User createUser(String email, String password) {
         if (userRepository.findByEmail(email).isPresent()) {
             throw new RuntimeException("User already exists");
@@ -43,6 +139,9 @@ public class AuthService {
         user.setEmail(email);
         user.setPasswordHash(passwordEncoder.encode(password));
         
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        eventSummaryService.createEmpty(savedUser.getId());
+        userCache.invalidate(savedUser.getId());
+        return savedUser;
     }
 }
@@ -0,0 +1,92 @@
+package com.eventplanner.service;
+
+import com.eventplanner.entity.BudgetItem;
+import com.eventplanner.exception.ResourceNotFoundException;
+import com.eventplanner.repository.BudgetItemRepository;
+import com.eventplanner.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Budget item operations. Every insert or delete adjusts the owning event's
+ * {@code spent_total} in the same transaction, so reading the total spent is a
+ * single-row lookup instead of a SUM over the items.
+ */
+@Service
+public class BudgetItemService {
+    
+    @Autowired
+    private BudgetItemRepository budgetItemRepository;
+    
+    @Autowired
+    private EventRepository eventRepository;
+    
+    @Autowired
+    private EventService eventService;
+    
+    @Transactional(readOnly = true)
+    public List<BudgetItem> getItems(UUID eventId, UUID userId) {
+        requireOwnedEvent(eventId, userId);
+        return budgetItemRepository.findByEventIdOrderByCreatedAtAsc(eventId);
+    }
+    
+    @Transactional
+    public BudgetItem addItem(UUID eventId, UUID userId, BudgetItem item) {
+        requireOwnedEvent(eventId, userId);
+        
+        item.setEventId(eventId);
+        BudgetItem savedItem = budgetItemRepository.save(item);
+        eventRepository.addToSpentTotal(eventId, savedItem.getAmount(), LocalDateTime.now());
+        eventService.eventChanged(eventId, userId);
+        
+        return savedItem;
+    }
+    
+    @Transactional
+    public void deleteItem(UUID eventId, UUID itemId, UUID userId) {
+        requireOwnedEvent(eventId, userId);
+        
+        BudgetItem item = budgetItemRepository.findByIdAndEventId(itemId, eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Budget item not found"));
+        
+        // A concurrent delete of the same item fails the row-count check on flush and
+        // rolls back, so the amount is never subtracted twice
+        budgetItemRepository.delete(item);
+        budgetItemRepository.flush();
+        eventRepository.addToSpentTotal(eventId, item.getAmount().negate(), LocalDateTime.now());
+        eventService.eventChanged(eventId, userId);
+    }
+    
+    /**
+     * Recomputes one event's spent total from its items under a row lock, so no item
+     * change can commit between reading the sum and writing it.
+     *
+     * @return true if the stored total had drifted and was corrected
+     */
+    @Transactional
+    public boolean reconcileEvent(UUID eventId) {
+        return eventRepository.findByIdForUpdate(eventId)
+                .map(event -> {
+                    BigDecimal actual = budgetItemRepository.sumAmountByEventId(eventId);
+                    if (event.getSpentTotal().compareTo(actual) == 0) {
+                        return false;
+                    }
+                    eventRepository.setSpentTotal(eventId, actual, LocalDateTime.now());
+                    eventService.eventChanged(eventId, event.getUserId());
+                    return true;
+                })
+                .orElse(false);
+    }
+    
+    private void requireOwnedEvent(UUID eventId, UUID userId) {
+        if (!eventRepository.existsByIdAndUserId(eventId, userId)) {
+            throw new ResourceNotFoundException("Event not found or access denied");
+        }
+    }
+}
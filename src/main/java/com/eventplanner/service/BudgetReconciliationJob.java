@@ -0,0 +1,45 @@
+package com.eventplanner.service;
+
+import com.eventplanner.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Periodically compares each event's maintained spent total with the sum of its budget
+ * items and repairs any drift (e.g. from manual SQL or a restored backup).
+ */
+@Component
+public class BudgetReconciliationJob {
+    
+    private static final Logger log = LoggerFactory.getLogger(BudgetReconciliationJob.class);
+    
+    @Autowired
+    private EventRepository eventRepository;
+    
+    @Autowired
+    private BudgetItemService budgetItemService;
+    
+    @Scheduled(cron = "${budget.reconciliation.cron:0 17 * * * *}")
+    public void reconcile() {
+        List<UUID> candidates = eventRepository.findIdsWithSpentTotalDrift();
+        if (candidates.isEmpty()) {
+            return;
+        }
+        
+        // Candidates were found without locks; each one is re-checked under a row lock
+        int corrected = 0;
+        for (UUID eventId : candidates) {
+            if (budgetItemService.reconcileEvent(eventId)) {
+                corrected++;
+            }
+        }
+        log.warn("Budget reconciliation corrected spent_total drift on {} of {} candidate events",
+                corrected, candidates.size());
+    }
+}
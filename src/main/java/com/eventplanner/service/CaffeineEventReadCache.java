@@ -0,0 +1,92 @@
+package com.eventplanner.service;
+
+import com.eventplanner.dto.EventResponse;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-based {@link EventReadCache} backed by Caffeine. Concurrent misses for the
+ * same key share a single load. The load runs on the calling thread outside of any map
+ * lock, so a virtual thread waiting on the database does not pin its carrier, and an
+ * invalidation that races with a load drops the in-flight result instead of keeping it.
+ */
+public class CaffeineEventReadCache implements EventReadCache {
+    
+    private final AsyncCache<UUID, List<EventResponse>> eventsByUser;
+    
+    private final AsyncCache<UUID, EventResponse> eventsById;
+    
+    public CaffeineEventReadCache(long maxUsers, long maxEvents, Duration ttl) {
+        this.eventsByUser = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        this.eventsById = Caffeine.newBuilder()
+                .maximumSize(maxEvents)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+    
+    @Override
+    public List<EventResponse> getEventsByUserId(UUID userId, Function<UUID, List<EventResponse>> loader) {
+        return load(eventsByUser, userId, id -> List.copyOf(loader.apply(id)));
+    }
+    
+    @Override
+    public Optional<EventResponse> getEventById(UUID eventId, UUID userId, Function<UUID, Optional<EventResponse>> loader) {
+        // Misses (including events owned by someone else) complete with null and are not cached
+        EventResponse event = load(eventsById, eventId, id -> loader.apply(id).orElse(null));
+        if (event == null || !event.getUserId().equals(userId)) {
+            return Optional.empty();
+        }
+        return Optional.of(event);
+    }
+    
+    @Override
+    public void evict(UUID eventId, UUID userId) {
+        eventsById.synchronous().invalidate(eventId);
+        eventsByUser.synchronous().invalidate(userId);
+    }
+    
+    @Override
+    public void evictUser(UUID userId) {
+        eventsByUser.synchronous().invalidate(userId);
+    }
+    
+    @Override
+    public CacheStats listStats() {
+        return eventsByUser.synchronous().stats();
+    }
+    
+    @Override
+    public CacheStats eventStats() {
+        return eventsById.synchronous().stats();
+    }
+    
+    private static <V> V load(AsyncCache<UUID, V> cache, UUID key, Function<UUID, V> loader) {
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> result = cache.get(key, (id, executor) -> loading);
+        if (result != loading) {
+            return result.join();
+        }
+        
+        // This caller won the race and loads for everyone waiting on the same key
+        try {
+            loading.complete(loader.apply(key));
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        }
+        return loading.join();
+    }
+}
@@ -0,0 +1,283 @@
+package com.eventplanner.service;
+
+import com.eventplanner.dto.EventChange;
+import com.eventplanner.dto.EventChangeType;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process publish/subscribe for event changes, feeding the SSE stream.
+ * <p>
+ * Publishing only appends to an in-memory replay log and offers the change to the bounded
+ * queue of each of the user's subscribers; it never writes to a connection. A small
+ * dispatch pool drains the queues onto the emitters. A subscriber whose queue is full is
+ * evicted (its stream is closed) and can resume from its Last-Event-ID.
+ * <p>
+ * Ids are {@code <instance>-<sequence>}. A resume id from another instance (or a restart),
+ * or one that has already left the replay log, gets a {@code reset} event telling the
+ * client to reload the list.
+ */
+@Component
+public class EventChangeBus {
+    
+    private static final Logger log = LoggerFactory.getLogger(EventChangeBus.class);
+    
+    private static final String RESET_EVENT = "reset";
+    
+    // Queue markers besides changes
+    private static final Object HEARTBEAT = new Object();
+    private static final Object RESET = new Object();
+    
+    private final int bufferSize;
+    
+    private final Change[] replayLog;
+    
+    private final String instanceId = Long.toString(System.currentTimeMillis(), 36);
+    
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    
+    private final AtomicLong evictions = new AtomicLong();
+    
+    private final ExecutorService dispatcher;
+    
+    // Guarded by this; only in-memory queue offers happen under the lock, never I/O
+    private long sequence;
+    
+    public EventChangeBus(@Value("${events.stream.buffer-size:64}") int bufferSize,
+                          @Value("${events.stream.replay-size:10000}") int replaySize,
+                          @Value("${events.stream.dispatch-threads:4}") int dispatchThreads) {
+        this.bufferSize = bufferSize;
+        this.replayLog = new Change[replaySize];
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "event-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    public void publish(UUID userId, UUID eventId, EventChangeType type) {
+        EventChange payload = new EventChange(type, eventId, LocalDateTime.now());
+        List<Subscriber> ready = new ArrayList<>();
+        synchronized (this) {
+            Change change = new Change(++sequence, userId, payload);
+            replayLog[(int) (change.sequence % replayLog.length)] = change;
+            for (Subscriber subscriber : subscribers.getOrDefault(userId, Set.of())) {
+                subscriber.offer(change);
+                ready.add(subscriber);
+            }
+        }
+        ready.forEach(Subscriber::schedule);
+    }
+    
+    /**
+     * Registers the emitter for the user's changes. With a {@code lastEventId} the changes
+     * the client missed are queued first, in order, ahead of any new ones.
+     */
+    public void subscribe(UUID userId, String lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+        
+        synchronized (this) {
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+            subscriberCount.incrementAndGet();
+        }
+        subscriber.schedule();
+    }
+    
+    // Caller holds the lock
+    private void replay(Subscriber subscriber, String lastEventId) {
+        long after = parseSequence(lastEventId);
+        long oldest = Math.max(1, sequence - replayLog.length + 1);
+        if (after < 0 || after > sequence || after + 1 < oldest) {
+            subscriber.offer(RESET);
+            return;
+        }
+        List<Change> missed = new ArrayList<>();
+        for (long next = after + 1; next <= sequence; next++) {
+            Change change = replayLog[(int) (next % replayLog.length)];
+            if (change.userId.equals(subscriber.userId)) {
+                missed.add(change);
+            }
+        }
+        // More than fits the buffer would only get the client evicted again; reloading is cheaper
+        if (missed.size() >= bufferSize) {
+            subscriber.offer(RESET);
+        } else {
+            missed.forEach(subscriber::offer);
+        }
+    }
+    
+    private long parseSequence(String lastEventId) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(instanceId)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+    
+    private void unsubscribe(Subscriber subscriber) {
+        if (subscriber.closed.compareAndSet(false, true)) {
+            subscribers.computeIfPresent(subscriber.userId, (id, set) -> {
+                set.remove(subscriber);
+                return set.isEmpty() ? null : set;
+            });
+            subscriberCount.decrementAndGet();
+        }
+    }
+    
+    /**
+     * Comment frames keep idle connections open through proxies and reveal clients that are
+     * gone, whose emitters are then released.
+     */
+    @Scheduled(fixedDelayString = "${events.stream.heartbeat-ms:30000}",
+               initialDelayString = "${events.stream.heartbeat-ms:30000}")
+    public void sendHeartbeats() {
+        for (Set<Subscriber> userSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : userSubscribers) {
+                // A full queue has data pending anyway
+                if (subscriber.queue.offer(HEARTBEAT)) {
+                    subscriber.schedule();
+                }
+            }
+        }
+    }
+    
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+    
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+    }
+    
+    private static final class Change {
+        
+        private final long sequence;
+        private final UUID userId;
+        private final EventChange payload;
+        
+        private Change(long sequence, UUID userId, EventChange payload) {
+            this.sequence = sequence;
+            this.userId = userId;
+            this.payload = payload;
+        }
+    }
+    
+    private final class Subscriber {
+        
+        private final UUID userId;
+        
+        private final SseEmitter emitter;
+        
+        private final BlockingQueue<Object> queue;
+        
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        
+        private final AtomicBoolean closed = new AtomicBoolean();
+        
+        private volatile boolean evicted;
+        
+        private Subscriber(UUID userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+        
+        // Returns false (and evicts) when the client has fallen too far behind
+        private boolean offer(Object item) {
+            if (evicted) {
+                return false;
+            }
+            if (!queue.offer(item)) {
+                evicted = true;
+                queue.clear();
+                evictions.incrementAndGet();
+                return false;
+            }
+            return true;
+        }
+        
+        // At most one dispatcher thread drains a subscriber at a time, so frames stay in order
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+        
+        private void drain() {
+            try {
+                Object item;
+                while (!evicted && !closed.get() && (item = queue.poll()) != null) {
+                    send(item);
+                }
+                if (evicted) {
+                    log.debug("Evicting slow event stream subscriber of user {}", userId);
+                    unsubscribe(this);
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the emitter's error callback unsubscribes it
+                unsubscribe(this);
+                emitter.completeWithError(e);
+            } finally {
+                scheduled.set(false);
+                if (!queue.isEmpty() && !closed.get()) {
+                    schedule();
+                }
+            }
+        }
+        
+        private void send(Object item) throws IOException {
+            if (item == HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } else if (item == RESET) {
+                emitter.send(SseEmitter.event().name(RESET_EVENT).data("{}", MediaType.APPLICATION_JSON));
+            } else {
+                Change change = (Change) item;
+                emitter.send(SseEmitter.event()
+                        .id(instanceId + "-" + change.sequence)
+                        .name(change.payload.getType().getName())
+                        .data(change.payload, MediaType.APPLICATION_JSON));
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.eventplanner.service;
+
+import com.eventplanner.dto.EventResponse;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Read-through cache in front of the event queries used by {@link EventService}. It holds
+ * immutable {@link EventResponse} snapshots, never managed entities, so entries can be
+ * shared between callers.
+ */
+public interface EventReadCache {
+    
+    /**
+     * Returns the user's events, invoking the loader at most once per user even
+     * when many callers miss concurrently.
+     */
+    List<EventResponse> getEventsByUserId(UUID userId, Function<UUID, List<EventResponse>> loader);
+    
+    Optional<EventResponse> getEventById(UUID eventId, UUID userId, Function<UUID, Optional<EventResponse>> loader);
+    
+    /**
+     * Drops one changed event and its owner's list.
+     */
+    void evict(UUID eventId, UUID userId);
+    
+    /**
+     * Drops the user's list, e.g. after events were created.
+     */
+    void evictUser(UUID userId);
+    
+    CacheStats listStats();
+    
+    CacheStats eventStats();
+}
@@ -1,13 +1,37 @@
 package com.eventplanner.service;
 
+import com.eventplanner.dto.CalendarEntry;
+import com.eventplanner.dto.CalendarGranularity;
+import com.eventplanner.dto.EventChangeType;
+import com.eventplanner.dto.EventCollectionVersion;
+import com.eventplanner.dto.EventCursor;
+import com.eventplanner.dto.EventField;
+import com.eventplanner.dto.EventResponse;
+import com.eventplanner.dto.EventSearchCursor;
+import com.eventplanner.dto.EventSearchHit;
+import com.eventplanner.dto.EventSummaryResponse;
+import com.eventplanner.dto.UpdateEventRequest;
 import com.eventplanner.entity.Event;
 import com.eventplanner.repository.EventRepository;
+import com.eventplanner.repository.EventSearchRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class EventService {
@@ -15,15 +39,196 @@ public class EventService {
     @Autowired
     private EventRepository eventRepository;
     
+    @Autowired
+    private EventReadCache eventReadCache;
+    
+    @Autowired
+    private EventSearchRepository eventSearchRepository;
+    
+    @Autowired
+    private EventChangeBus eventChangeBus;
+    
+    @Autowired
+    private EventSummaryService eventSummaryService;
+    
+    @Transactional
     public Event createEvent(Event event) {
-        return eventRepository.save(event);
+        Event savedEvent = eventRepository.save(event);
+        eventSummaryService.eventsCreated(List.of(savedEvent));
+        afterCommit(() -> eventReadCache.evictUser(savedEvent.getUserId()));
+        publishAfterCommit(savedEvent.getUserId(), savedEvent.getId(), EventChangeType.CREATED);
+        return savedEvent;
+    }
+    
+    /**
+     * Inserts all events in a single transaction; with Hibernate JDBC batching enabled this
+     * costs one round trip per batch of rows instead of one per event.
+     */
+    @Transactional
+    public List<Event> createEvents(List<Event> events) {
+        List<Event> savedEvents = eventRepository.saveAll(events);
+        eventSummaryService.eventsCreated(savedEvents);
+        savedEvents.stream()
+                .map(Event::getUserId)
+                .distinct()
+                .forEach(userId -> afterCommit(() -> eventReadCache.evictUser(userId)));
+        savedEvents.forEach(event -> publishAfterCommit(event.getUserId(), event.getId(), EventChangeType.CREATED));
+        return savedEvents;
+    }
+    
+    /**
+     * Applies the supplied fields with a single conditional UPDATE (no prior read or lock).
+     * Returns the updated event, or empty if the user has no such event; throws
+     * {@link OptimisticLockingFailureException} if it has changed since {@code version}.
+     * Changes to the date, budget or attendees are first applied to the user's event summary,
+     * by a statement that takes the old values from the event row.
+     */
+    @Transactional
+    public Optional<EventResponse> updateEvent(UUID eventId, UUID userId, UpdateEventRequest update) {
+        boolean summaryUpdated = eventSummaryService.eventUpdating(eventId, userId, update);
+        if (eventRepository.updateFields(eventId, userId, update) == 0) {
+            // Only the failure path pays for telling "missing" from "stale"; the rollback
+            // also undoes the summary update
+            if (!eventRepository.existsByIdAndUserId(eventId, userId)) {
+                return Optional.empty();
+            }
+            throw new OptimisticLockingFailureException("Event was modified by another request");
+        }
+        if (!summaryUpdated) {
+            // The event matched, so it was the user's summary row that was missing
+            eventSummaryService.rebuildUser(userId);
+        }
+        eventChanged(eventId, userId);
+        return eventRepository.findResponseByIdAndUserId(eventId, userId);
+    }
+    
+    /**
+     * Served from {@link EventReadCache}; concurrent misses for the same user share one query.
+     */
+    public List<EventResponse> getEventsByUserId(UUID userId) {
+        return eventReadCache.getEventsByUserId(userId, eventRepository::findResponsesByUserId);
+    }
+    
+    /**
+     * Reads the current version of the user's event list straight from the database,
+     * without loading any events.
+     */
+    @Transactional(readOnly = true)
+    public EventCollectionVersion getEventsVersion(UUID userId) {
+        return eventRepository.findCollectionVersionByUserId(userId);
+    }
+    
+    /**
+     * Returns up to {@code limit} events ordered by (date, id), starting after the given cursor,
+     * projected straight into response DTOs.
+     */
+    @Transactional(readOnly = true)
+    public List<EventResponse> getEventsPage(UUID userId, EventCursor after, int limit) {
+        if (after == null) {
+            return eventRepository.findFirstPageByUserId(userId, Limit.of(limit));
+        }
+        return eventRepository.findPageByUserIdAfter(userId, after.getDate(), after.getId(), Limit.of(limit));
+    }
+    
+    /**
+     * Reads only the requested columns of the user's events (all of them when
+     * {@code limit} is null).
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getEventFields(UUID userId, Set<EventField> fields, EventCursor after, Integer limit) {
+        return eventRepository.findFieldsByUserId(userId, fields, after, limit);
+    }
+    
+    /**
+     * Totals over all of the user's events, read from the maintained summary row.
+     */
+    public EventSummaryResponse getSummary(UUID userId) {
+        return eventSummaryService.getSummary(userId);
+    }
+    
+    /**
+     * Event count, budget and attendee totals per day (or per week) between {@code from} and
+     * {@code to} inclusive. Days without events are left out. The database groups by day;
+     * weeks are folded from those rows, at most one per day in the range.
+     */
+    @Transactional(readOnly = true)
+    public List<CalendarEntry> getCalendar(UUID userId, LocalDate from, LocalDate to, CalendarGranularity granularity) {
+        List<CalendarEntry> days = eventRepository.findCalendarByUserId(userId, from, to);
+        if (granularity == CalendarGranularity.DAY) {
+            return days;
+        }
+        
+        List<CalendarEntry> buckets = new ArrayList<>();
+        for (CalendarEntry day : days) {
+            LocalDate start = granularity.bucketStart(day.getDate());
+            CalendarEntry last = buckets.isEmpty() ? null : buckets.get(buckets.size() - 1);
+            if (last != null && last.getDate().equals(start)) {
+                buckets.set(buckets.size() - 1, last.add(day));
+            } else {
+                buckets.add(new CalendarEntry(start, day.getEventCount(), day.getTotalBudget(), day.getTotalAttendees()));
+            }
+        }
+        return buckets;
+    }
+    
+    /**
+     * Ranked search over the title and description of the user's events, best match first,
+     * returning up to {@code limit} hits after the given cursor.
+     */
+    @Transactional(readOnly = true)
+    public List<EventSearchHit> searchEvents(UUID userId, String query, EventSearchCursor after, int limit) {
+        return eventSearchRepository.search(userId, query, after, limit);
+    }
+    
+    /**
+     * Hands every event of the user to the consumer one at a time from a forward-only
+     * result set. Rows are projected into DTOs, so the persistence context stays empty.
+     */
+    @Transactional(readOnly = true)
+    public void streamEventsByUserId(UUID userId, Consumer<EventResponse> consumer) {
+        try (Stream<EventResponse> events = eventRepository.streamByUserId(userId)) {
+            events.forEach(consumer);
+        }
+    }
+    
+    /**
+     * Attaches the emitter to the user's change stream, first replaying what was published
+     * after {@code lastEventId} when the client is resuming.
+     */
+    public void subscribeToChanges(UUID userId, String lastEventId, SseEmitter emitter) {
+        eventChangeBus.subscribe(userId, lastEventId, emitter);
+    }
+    
+    /**
+     * Records that an event's row was changed by a bulk update. Once the change commits, the
+     * cached copies of the event and of its owner's list are dropped (not before, so a
+     * concurrent reader cannot re-cache the old row in between) and stream subscribers are told.
+     */
+    public void eventChanged(UUID eventId, UUID userId) {
+        afterCommit(() -> eventReadCache.evict(eventId, userId));
+        publishAfterCommit(userId, eventId, EventChangeType.UPDATED);
+    }
+    
+    // Subscribers must never hear about a change that was rolled back
+    private void publishAfterCommit(UUID userId, UUID eventId, EventChangeType type) {
+        afterCommit(() -> eventChangeBus.publish(userId, eventId, type));
     }
     
-    public List<Event> getEventsByUserId(UUID userId) {
-        return eventRepository.findByUserId(userId);
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
     
-    public Optional<Event> getEventById(UUID eventId, UUID userId) {
-        return eventRepository.findByIdAndUserId(eventId, userId);
+    public Optional<EventResponse> getEventById(UUID eventId, UUID userId) {
+        return eventReadCache.getEventById(eventId, userId,
+                id -> eventRepository.findResponseByIdAndUserId(id, userId));
     }
 }
@@ -0,0 +1,39 @@
+package com.eventplanner.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Shortly after midnight, moves every user's event summary to the new day, so yesterday's
+ * events count as past. Rows are rolled in small batches, each in its own transaction,
+ * so the job never holds many row locks at once.
+ */
+@Component
+public class EventSummaryRollupJob {
+    
+    private static final Logger log = LoggerFactory.getLogger(EventSummaryRollupJob.class);
+    
+    @Autowired
+    private EventSummaryService eventSummaryService;
+    
+    @Value("${events.summary.roll-batch-size:500}")
+    private int batchSize;
+    
+    @Scheduled(cron = "${events.summary.roll-cron:0 5 0 * * *}")
+    public void rollForward() {
+        LocalDate today = LocalDate.now();
+        int total = 0;
+        int rolled;
+        do {
+            rolled = eventSummaryService.rollForward(today, batchSize);
+            total += rolled;
+        } while (rolled > 0);
+        log.info("Rolled {} event summaries forward to {}", total, today);
+    }
+}
@@ -0,0 +1,226 @@
+package com.eventplanner.service;
+
+import com.eventplanner.dto.EventSummaryResponse;
+import com.eventplanner.dto.EventSummaryVerification;
+import com.eventplanner.dto.UpdateEventRequest;
+import com.eventplanner.entity.Event;
+import com.eventplanner.entity.UserEventSummary;
+import com.eventplanner.repository.UserEventSummaryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps {@code user_event_summary} in step with the events table. Every event change applies
+ * its delta in the caller's transaction, so the summary commits (or rolls back) with it;
+ * {@link #verify()} and {@link #rebuild()} recompute it from the events when they disagree.
+ */
+@Service
+public class EventSummaryService {
+    
+    private static final Logger log = LoggerFactory.getLogger(EventSummaryService.class);
+    
+    private static final int VERIFY_PAGE_SIZE = 1000;
+    
+    @Autowired
+    private UserEventSummaryRepository summaryRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    /**
+     * Served from the user's summary row. Until the nightly roll has moved the row to today,
+     * events that have passed since are subtracted here (an index range scan over those days).
+     */
+    @Transactional(readOnly = true)
+    public EventSummaryResponse getSummary(UUID userId) {
+        LocalDate today = LocalDate.now();
+        UserEventSummary summary = summaryRepository.findById(userId)
+                .orElseGet(() -> empty(userId, today));
+        EventSummaryResponse response = EventSummaryResponse.fromEntity(summary);
+        if (summary.getAsOf().isBefore(today)) {
+            // Adjusts the response only; the managed row is left for the roll job
+            long passed = summaryRepository.countPassedSince(userId, summary.getAsOf(), today);
+            response.setUpcomingEvents(response.getUpcomingEvents() - passed);
+            response.setPastEvents(response.getPastEvents() + passed);
+        }
+        return response;
+    }
+    
+    @Transactional
+    public void createEmpty(UUID userId) {
+        summaryRepository.save(empty(userId, LocalDate.now()));
+    }
+    
+    /**
+     * Adds newly inserted events, one UPDATE per (user, date). A user without a summary row
+     * (e.g. restored from a backup taken before it existed) gets one built from the events table.
+     */
+    @Transactional
+    public void eventsCreated(List<Event> events) {
+        Map<UUID, Map<LocalDate, List<Event>>> byUserAndDate = events.stream()
+                .collect(Collectors.groupingBy(Event::getUserId, LinkedHashMap::new,
+                        Collectors.groupingBy(Event::getDate, LinkedHashMap::new, Collectors.toList())));
+        
+        byUserAndDate.forEach((userId, byDate) -> {
+            for (Map.Entry<LocalDate, List<Event>> day : byDate.entrySet()) {
+                List<Event> dayEvents = day.getValue();
+                BigDecimal budget = dayEvents.stream().map(Event::getBudget).reduce(BigDecimal.ZERO, BigDecimal::add);
+                long attendees = dayEvents.stream().mapToLong(Event::getAttendeeCount).sum();
+                if (summaryRepository.addEvents(userId, day.getKey(), dayEvents.size(), budget, attendees) == 0) {
+                    // The rebuild counts every event of the user, including the rest of this batch
+                    rebuildUser(userId);
+                    return;
+                }
+            }
+        });
+    }
+    
+    /**
+     * Applies a partial update to the user's row, reading the old values from the event row in
+     * the same statement. Must run before the event itself is updated; returns false when nothing
+     * was applied because the event is missing or stale (the event update then fails too) or the
+     * user has no summary row (the caller rebuilds it once the event is updated).
+     */
+    @Transactional
+    public boolean eventUpdating(UUID eventId, UUID userId, UpdateEventRequest update) {
+        if (!affectsSummary(update)) {
+            return true;
+        }
+        return summaryRepository.updateEvent(userId, eventId, update.getVersion(),
+                update.getDate(), update.getBudget(), update.getAttendeeCount()) > 0;
+    }
+    
+    private static boolean affectsSummary(UpdateEventRequest update) {
+        return update.getDate() != null || update.getBudget() != null || update.getAttendeeCount() != null;
+    }
+    
+    /**
+     * Moves up to {@code batchSize} rows whose {@code asOf} is before today forward to today.
+     * Returns how many were moved; the caller repeats until none are left, calling through the
+     * proxy so that every batch commits (and releases its row locks) on its own.
+     */
+    @Transactional
+    public int rollForward(LocalDate today, int batchSize) {
+        List<UUID> userIds = summaryRepository.findStaleForUpdate(today, Limit.of(batchSize)).stream()
+                .map(UserEventSummary::getUserId)
+                .collect(Collectors.toList());
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        return summaryRepository.rollForward(userIds, today);
+    }
+    
+    /**
+     * Compares every summary row with totals recomputed from the events table, each as of the
+     * row's own {@code asOf}, so rows the nightly roll has not reached yet are not reported.
+     * Changes nothing; pages through the rows, one short read per page.
+     */
+    public EventSummaryVerification verify() {
+        int checked = 0;
+        List<UUID> drifted = new ArrayList<>();
+        List<UserEventSummary> page = summaryRepository.findByOrderByUserId(Limit.of(VERIFY_PAGE_SIZE));
+        while (!page.isEmpty()) {
+            checked += page.size();
+            drifted.addAll(findDrifted(page));
+            UUID last = page.get(page.size() - 1).getUserId();
+            page = summaryRepository.findByUserIdGreaterThanOrderByUserId(last, Limit.of(VERIFY_PAGE_SIZE));
+        }
+        // Users with events but no summary row at all
+        drifted.addAll(summaryRepository.findUserIdsWithoutSummary());
+        return new EventSummaryVerification(checked, drifted, 0);
+    }
+    
+    /**
+     * Recomputes the rows that {@link #verify()} reports as drifted, each user in its own
+     * transaction. Every row is re-checked under a row lock, so a correct row updated
+     * concurrently is left alone.
+     */
+    public EventSummaryVerification rebuild() {
+        EventSummaryVerification verification = verify();
+        // A self-call would bypass the proxy, so the per-user transactions are started here
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int repaired = 0;
+        for (UUID userId : verification.getDriftedUserIds()) {
+            if (Boolean.TRUE.equals(transaction.execute(status -> rebuildUser(userId)))) {
+                repaired++;
+            }
+        }
+        if (repaired > 0) {
+            log.warn("Event summary rebuild corrected {} of {} checked users", repaired, verification.getCheckedUsers());
+        }
+        verification.setRepairedUsers(repaired);
+        return verification;
+    }
+    
+    /**
+     * Replaces the user's row with totals computed from the events table. Returns whether
+     * the stored row was missing or different.
+     */
+    @Transactional
+    public boolean rebuildUser(UUID userId) {
+        LocalDate today = LocalDate.now();
+        // Lock before counting, so no delta for this user can commit in between
+        UserEventSummary stored = summaryRepository.findByUserIdForUpdate(userId).orElse(null);
+        UserEventSummary actual = summaryRepository.computeForUser(userId, today)
+                .orElseGet(() -> empty(userId, today));
+        if (stored != null && matches(stored, actual)) {
+            return false;
+        }
+        if (stored == null) {
+            summaryRepository.save(actual);
+        } else {
+            stored.setTotalEvents(actual.getTotalEvents());
+            stored.setUpcomingEvents(actual.getUpcomingEvents());
+            stored.setTotalBudget(actual.getTotalBudget());
+            stored.setTotalAttendees(actual.getTotalAttendees());
+            stored.setAsOf(today);
+        }
+        return true;
+    }
+    
+    private List<UUID> findDrifted(List<UserEventSummary> stored) {
+        List<UUID> userIds = stored.stream()
+                .map(UserEventSummary::getUserId)
+                .collect(Collectors.toList());
+        Map<UUID, UserEventSummary> actual = summaryRepository.computeForSummaries(userIds).stream()
+                .collect(Collectors.toMap(UserEventSummary::getUserId, Function.identity()));
+        
+        List<UUID> drifted = new ArrayList<>();
+        for (UserEventSummary summary : stored) {
+            UserEventSummary expected = actual.getOrDefault(summary.getUserId(), empty(summary.getUserId(), summary.getAsOf()));
+            if (!matches(summary, expected)) {
+                drifted.add(summary.getUserId());
+            }
+        }
+        return drifted;
+    }
+    
+    private static boolean matches(UserEventSummary stored, UserEventSummary actual) {
+        return stored.getTotalEvents() == actual.getTotalEvents()
+                && stored.getUpcomingEvents() == actual.getUpcomingEvents()
+                && stored.getTotalBudget().compareTo(actual.getTotalBudget()) == 0
+                && stored.getTotalAttendees() == actual.getTotalAttendees()
+                && Objects.equals(stored.getAsOf(), actual.getAsOf());
+    }
+    
+    private static UserEventSummary empty(UUID userId, LocalDate asOf) {
+        return new UserEventSummary(userId, 0, 0, BigDecimal.ZERO, 0, asOf);
+    }
+}
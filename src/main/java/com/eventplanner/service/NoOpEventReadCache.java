@@ -0,0 +1,43 @@
+package com.eventplanner.service;
+
+import com.eventplanner.dto.EventResponse;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Pass-through {@link EventReadCache} used when event caching is disabled.
+ */
+public class NoOpEventReadCache implements EventReadCache {
+    
+    @Override
+    public List<EventResponse> getEventsByUserId(UUID userId, Function<UUID, List<EventResponse>> loader) {
+        return loader.apply(userId);
+    }
+    
+    @Override
+    public Optional<EventResponse> getEventById(UUID eventId, UUID userId, Function<UUID, Optional<EventResponse>> loader) {
+        return loader.apply(eventId);
+    }
+    
+    @Override
+    public void evict(UUID eventId, UUID userId) {
+    }
+    
+    @Override
+    public void evictUser(UUID userId) {
+    }
+    
+    @Override
+    public CacheStats listStats() {
+        return CacheStats.empty();
+    }
+    
+    @Override
+    public CacheStats eventStats() {
+        return CacheStats.empty();
+    }
+}
@@ -0,0 +1,42 @@
+package com.eventplanner.service;
+
+import com.eventplanner.dto.TaskCursor;
+import com.eventplanner.dto.TaskFilter;
+import com.eventplanner.entity.Task;
+import com.eventplanner.repository.EventRepository;
+import com.eventplanner.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class TaskService {
+    
+    @Autowired
+    private TaskRepository taskRepository;
+    
+    @Autowired
+    private EventRepository eventRepository;
+    
+    @Transactional(readOnly = true)
+    public List<Task> getTasksPage(UUID eventId, UUID userId, TaskFilter filter, TaskCursor after, int limit) {
+        requireOwnedEvent(eventId, userId);
+        return taskRepository.findPage(eventId, filter, after, limit);
+    }
+    
+    @Transactional
+    public Task createTask(UUID eventId, UUID userId, Task task) {
+        requireOwnedEvent(eventId, userId);
+        task.setEventId(eventId);
+        return taskRepository.save(task);
+    }
+    
+    private void requireOwnedEvent(UUID eventId, UUID userId) {
+        if (!eventRepository.existsByIdAndUserId(eventId, userId)) {
+            throw new RuntimeException("Event not found or access denied");
+        }
+    }
+}
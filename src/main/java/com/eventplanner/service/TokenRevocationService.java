@@ -0,0 +1,101 @@
+package com.eventplanner.service;
+
+import com.eventplanner.entity.RevokedToken;
+import com.eventplanner.repository.RevokedTokenRepository;
+import com.eventplanner.security.TokenDenyList;
+import com.eventplanner.security.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps the in-memory {@link TokenDenyList} and the revoked_tokens table in step. Request
+ * handling only ever consults the in-memory list; the table is written on logout, read in
+ * full on startup, and polled for revocations made by other instances.
+ */
+@Service
+public class TokenRevocationService {
+    
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+    
+    // Re-reads a little history on every sync so rows committed with a slightly older
+    // revoked_at (clock skew between instances, long transactions) are not missed
+    private static final long SYNC_OVERLAP_SECONDS = 60;
+    
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+    
+    @Autowired
+    private TokenDenyList tokenDenyList;
+    
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+    
+    private volatile LocalDateTime lastSync;
+    
+    @PostConstruct
+    void loadRevokedTokens() {
+        // Runs before the web server starts accepting requests
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedToken> revokedTokens = revokedTokenRepository.findByExpiresAtAfter(now);
+        revokedTokens.forEach(this::addToDenyList);
+        lastSync = now;
+        log.info("Loaded {} revoked tokens", revokedTokens.size());
+    }
+    
+    /**
+     * Revokes the token with the given verified claims. Tokens issued without a {@code jti}
+     * cannot be revoked and simply run until they expire.
+     */
+    @Transactional
+    public boolean revoke(String token, Claims claims) {
+        if (claims.getId() == null) {
+            return false;
+        }
+        
+        RevokedToken revokedToken = new RevokedToken();
+        revokedToken.setJti(UUID.fromString(claims.getId()));
+        revokedToken.setUserId(UUID.fromString(claims.getSubject()));
+        revokedToken.setExpiresAt(LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault()));
+        
+        // Effective on this instance immediately; persisted for restarts and other instances
+        tokenDenyList.revoke(claims.getId(), claims.getExpiration().getTime());
+        verifiedTokenCache.invalidate(token);
+        revokedTokenRepository.save(revokedToken);
+        return true;
+    }
+    
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:30000}",
+               initialDelayString = "${jwt.revocation.sync-interval-ms:30000}")
+    public void syncRevokedTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(lastSync.minusSeconds(SYNC_OVERLAP_SECONDS), now)
+                .forEach(this::addToDenyList);
+        lastSync = now;
+    }
+    
+    @Scheduled(cron = "${jwt.revocation.purge-cron:0 23 * * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        tokenDenyList.rebuildFilter();
+        if (deleted > 0) {
+            log.info("Purged {} expired revoked tokens", deleted);
+        }
+    }
+    
+    private void addToDenyList(RevokedToken revokedToken) {
+        long expiresAtMillis = revokedToken.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        tokenDenyList.revoke(revokedToken.getJti().toString(), expiresAtMillis);
+    }
+}
@@ -0,0 +1,53 @@
+package com.eventplanner.service;
+
+import com.eventplanner.dto.UserSummary;
+import com.eventplanner.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Small bounded cache of {@link UserSummary} by id. Entries are dropped whenever the
+ * user is created or changed through {@link AuthService}; the TTL bounds staleness
+ * for changes made anywhere else.
+ */
+@Component
+public class UserCache {
+    
+    private final UserRepository userRepository;
+    
+    private final Cache<UUID, UserSummary> cache;
+    
+    public UserCache(UserRepository userRepository,
+                     @Value("${users.cache.max-size:10000}") long maxSize,
+                     @Value("${users.cache.ttl:10m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+    
+    /**
+     * Returns the user, loading it from the database on a miss. Unknown ids are not cached.
+     */
+    public Optional<UserSummary> get(UUID userId) {
+        return Optional.ofNullable(cache.get(userId,
+                id -> userRepository.findById(id).map(UserSummary::fromEntity).orElse(null)));
+    }
+    
+    public void invalidate(UUID userId) {
+        cache.invalidate(userId);
+    }
+    
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
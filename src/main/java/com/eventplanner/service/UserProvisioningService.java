@@ -0,0 +1,194 @@
+package com.eventplanner.service;
+
+import com.eventplanner.dto.ProvisionStatus;
+import com.eventplanner.dto.ProvisionUserRequest;
+import com.eventplanner.dto.ProvisionUserResult;
+import com.eventplanner.entity.User;
+import com.eventplanner.repository.UserProvisioningRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Creates users from a newline-delimited JSON upload ({@code {"email":..,"password":..}} per
+ * line) without holding the upload in memory: lines are read, hashed and inserted one batch
+ * at a time, and each line's outcome is handed on as soon as its batch is committed.
+ * Passwords are hashed on a bounded pool of its own, separate from the login pool, so an
+ * upload cannot starve logins; when that pool is saturated the reading thread hashes too,
+ * which slows the upload down instead of queueing without bound.
+ */
+@Service
+public class UserProvisioningService {
+    
+    private static final Logger log = LoggerFactory.getLogger(UserProvisioningService.class);
+    
+    private final UserProvisioningRepository provisioningRepository;
+    
+    private final PasswordEncoder passwordEncoder;
+    
+    private final ObjectMapper objectMapper;
+    
+    private final Validator validator;
+    
+    private final int batchSize;
+    
+    private final ThreadPoolExecutor hashingExecutor;
+    
+    public UserProvisioningService(UserProvisioningRepository provisioningRepository,
+                                   PasswordEncoder passwordEncoder,
+                                   ObjectMapper objectMapper,
+                                   Validator validator,
+                                   @Value("${users.provisioning.batch-size:500}") int batchSize,
+                                   @Value("${users.provisioning.hashing-threads:0}") int hashingThreads) {
+        this.provisioningRepository = provisioningRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.batchSize = batchSize;
+        
+        // Default to half the cores, leaving the rest for requests and the login hashing pool
+        int threads = hashingThreads > 0 ? hashingThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.hashingExecutor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(batchSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "provisioning-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+    
+    /**
+     * Provisions every line of the upload, calling {@code results} once per non-blank line
+     * in input order. Returns how many users were created.
+     */
+    public long provision(Reader upload, Consumer<ProvisionUserResult> results) throws IOException {
+        BufferedReader reader = new BufferedReader(upload);
+        List<PendingLine> batch = new ArrayList<>(batchSize);
+        long lineNumber = 0;
+        long created = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            batch.add(parse(lineNumber, line));
+            if (batch.size() == batchSize) {
+                created += flush(batch, results);
+            }
+        }
+        created += flush(batch, results);
+        log.info("Provisioned {} users from {} lines", created, lineNumber);
+        return created;
+    }
+    
+    private long flush(List<PendingLine> batch, Consumer<ProvisionUserResult> results) {
+        // Only the first occurrence of an email in the batch is inserted
+        Set<String> seen = new HashSet<>();
+        List<PendingLine> valid = new ArrayList<>();
+        for (PendingLine pending : batch) {
+            if (pending.status != null) {
+                continue;
+            }
+            if (!seen.add(pending.request.getEmail())) {
+                pending.status = ProvisionStatus.DUPLICATE;
+                continue;
+            }
+            valid.add(pending);
+        }
+        
+        List<CompletableFuture<String>> hashes = valid.stream()
+                .map(pending -> CompletableFuture.supplyAsync(
+                        () -> passwordEncoder.encode(pending.request.getPassword()), hashingExecutor))
+                .collect(Collectors.toList());
+        List<User> users = new ArrayList<>(valid.size());
+        for (int i = 0; i < valid.size(); i++) {
+            User user = new User();
+            user.setId(UUID.randomUUID());
+            user.setEmail(valid.get(i).request.getEmail());
+            user.setPasswordHash(hashes.get(i).join());
+            users.add(user);
+        }
+        
+        Set<UUID> inserted = provisioningRepository.insertMissing(users);
+        for (int i = 0; i < valid.size(); i++) {
+            UUID id = users.get(i).getId();
+            valid.get(i).status = inserted.contains(id) ? ProvisionStatus.CREATED : ProvisionStatus.EXISTS;
+            valid.get(i).id = inserted.contains(id) ? id : null;
+        }
+        
+        batch.forEach(pending -> results.accept(pending.toResult()));
+        batch.clear();
+        return inserted.size();
+    }
+    
+    private PendingLine parse(long lineNumber, String line) {
+        PendingLine pending = new PendingLine(lineNumber);
+        try {
+            pending.request = objectMapper.readValue(line, ProvisionUserRequest.class);
+        } catch (JsonProcessingException e) {
+            pending.status = ProvisionStatus.INVALID;
+            pending.error = "Line is not a JSON object with email and password";
+            return pending;
+        }
+        Set<ConstraintViolation<ProvisionUserRequest>> violations = validator.validate(pending.request);
+        if (!violations.isEmpty()) {
+            pending.status = ProvisionStatus.INVALID;
+            pending.error = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        return pending;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdown();
+    }
+    
+    private static final class PendingLine {
+        
+        private final long line;
+        private ProvisionUserRequest request;
+        private ProvisionStatus status;
+        private UUID id;
+        private String error;
+        
+        private PendingLine(long line) {
+            this.line = line;
+        }
+        
+        private ProvisionUserResult toResult() {
+            String email = request != null ? request.getEmail() : null;
+            return new ProvisionUserResult(line, email, status, id, error);
+        }
+    }
+}
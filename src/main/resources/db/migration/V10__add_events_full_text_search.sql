@@ -0,0 +1,10 @@
+-- Full-text search over event titles (weight A) and descriptions (weight B).
+-- The vector is a stored generated column, so it can never drift from the text it is built from.
+ALTER TABLE events ADD COLUMN IF NOT EXISTS search_vector tsvector
+  GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'B')
+  ) STORED;
+
+-- GIN index for "search_vector @@ query"; combined with idx_events_user_date_id via a bitmap AND for the user scope
+CREATE INDEX IF NOT EXISTS idx_events_search_vector ON events USING GIN (search_vector);
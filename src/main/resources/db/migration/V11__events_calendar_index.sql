@@ -0,0 +1,11 @@
+-- Both single-column indexes are covered by idx_events_user_date_id: every events query is
+-- scoped to a user, so (user_id) alone is a redundant prefix and (date) alone is never used.
+DROP INDEX IF EXISTS idx_events_user_id;
+DROP INDEX IF EXISTS idx_events_date;
+
+-- Rebuild the (user_id, date, id) index carrying the columns the calendar aggregates, so a
+-- month's GROUP BY date can run as an index-only range scan (build first, then swap, so the
+-- keyset pagination queries are never left without an index)
+CREATE INDEX IF NOT EXISTS idx_events_user_date_id_new ON events(user_id, date, id) INCLUDE (budget, attendee_count);
+DROP INDEX IF EXISTS idx_events_user_date_id;
+ALTER INDEX idx_events_user_date_id_new RENAME TO idx_events_user_date_id;
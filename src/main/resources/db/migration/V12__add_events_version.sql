@@ -0,0 +1,3 @@
+-- Optimistic concurrency for partial updates (PATCH /api/events/{id}): every write through
+-- the API bumps the version and is conditional on the version the client last saw
+ALTER TABLE events ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,24 @@
+-- Per-user rollup behind the dashboard header (GET /api/events/summary), maintained in the same
+-- transaction as every event insert/update. upcoming_events counts events dated on or after as_of;
+-- a daily job moves as_of forward and subtracts the events that have passed since.
+CREATE TABLE IF NOT EXISTS user_event_summary (
+  user_id UUID PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+  total_events BIGINT NOT NULL DEFAULT 0,
+  upcoming_events BIGINT NOT NULL DEFAULT 0,
+  total_budget DECIMAL(14,2) NOT NULL DEFAULT 0,
+  total_attendees BIGINT NOT NULL DEFAULT 0,
+  as_of DATE NOT NULL
+);
+
+-- Backfill every existing user, including those without events
+INSERT INTO user_event_summary (user_id, total_events, upcoming_events, total_budget, total_attendees, as_of)
+SELECT u.id,
+       COUNT(e.id),
+       COUNT(e.id) FILTER (WHERE e.date >= CURRENT_DATE),
+       COALESCE(SUM(e.budget), 0),
+       COALESCE(SUM(e.attendee_count), 0),
+       CURRENT_DATE
+FROM users u
+LEFT JOIN events e ON e.user_id = u.id
+GROUP BY u.id
+ON CONFLICT (user_id) DO NOTHING;
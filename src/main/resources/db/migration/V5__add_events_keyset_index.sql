@@ -0,0 +1,2 @@
+-- Composite index backing keyset pagination of a user's events on (date, id)
+CREATE INDEX IF NOT EXISTS idx_events_user_date_id ON events(user_id, date, id);
@@ -0,0 +1,7 @@
+-- Running total of budget item amounts per event, maintained in the same
+-- transaction as every budget item insert/delete
+ALTER TABLE events ADD COLUMN IF NOT EXISTS spent_total DECIMAL(12,2) NOT NULL DEFAULT 0;
+
+-- Backfill from existing budget items
+UPDATE events e
+SET spent_total = COALESCE((SELECT SUM(b.amount) FROM budget_items b WHERE b.event_id = e.id), 0);
@@ -0,0 +1,20 @@
+-- Store priority as a rank that sorts in display order (1 = High, 2 = Medium, 3 = Low),
+-- so ORDER BY priority needs no CASE expression and can be served from an index
+ALTER TABLE tasks ADD COLUMN priority_rank SMALLINT;
+
+UPDATE tasks
+SET priority_rank = CASE priority WHEN 'High' THEN 1 WHEN 'Medium' THEN 2 ELSE 3 END;
+
+ALTER TABLE tasks ALTER COLUMN priority_rank SET NOT NULL;
+ALTER TABLE tasks DROP COLUMN priority;
+ALTER TABLE tasks RENAME COLUMN priority_rank TO priority;
+ALTER TABLE tasks ADD CONSTRAINT tasks_priority_check CHECK (priority BETWEEN 1 AND 3);
+
+-- Replace the single-column indexes with composites matching the task list queries:
+-- filter by event, sort by (priority, date) or by date, with id as keyset tie-breaker
+DROP INDEX IF EXISTS idx_tasks_event_id;
+DROP INDEX IF EXISTS idx_tasks_priority;
+DROP INDEX IF EXISTS idx_tasks_date;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_event_priority_date ON tasks(event_id, priority, date, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_event_date ON tasks(event_id, date, id);
@@ -0,0 +1,3 @@
+-- Lets the per-user collection version probe (COUNT(*), MAX(updated_at)) for conditional GETs
+-- run as an index-only scan instead of visiting every event row of the user
+CREATE INDEX IF NOT EXISTS idx_events_user_updated_at ON events(user_id, updated_at);
@@ -0,0 +1,97 @@
+package com.eventplanner.config;
+
+import com.eventplanner.datasource.ReadYourWritesTracker;
+import com.eventplanner.entity.User;
+import com.eventplanner.repository.UserRepository;
+import com.eventplanner.security.JwtUtil;
+import com.eventplanner.service.AuthService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Routing wired into the application. The "replica" is the same in-memory H2 database
+ * reached as a different user, so it has the schema Hibernate creates on the primary;
+ * CURRENT_USER tells which pool a statement ran on.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:routingdb;DB_CLOSE_DELAY=-1;INIT=CREATE USER IF NOT EXISTS REPLICA PASSWORD 'replica' ADMIN",
+    "datasource.routing.enabled=true",
+    "datasource.routing.replica-urls=jdbc:h2:mem:routingdb;IFEXISTS=TRUE",
+    "datasource.routing.replica-username=REPLICA",
+    "datasource.routing.replica-password=replica",
+    "datasource.routing.lag-query="
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class DataSourceRoutingConfigTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private AuthService authService;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private JwtUtil jwtUtil;
+    
+    @Autowired
+    private ReadYourWritesTracker readYourWritesTracker;
+    
+    @Test
+    public void testReadOnlyTransactionsRunOnReplica() {
+        assertEquals("REPLICA", currentUser(true));
+        assertEquals("SA", currentUser(false));
+        
+        // Spring Data reads are read-only transactions, so they can be served by the replica
+        User user = authService.createUser("routing@example.com", "password123");
+        assertTrue(userRepository.findById(user.getId()).isPresent());
+    }
+    
+    @Test
+    public void testWriteRequestStartsReadYourWritesWindow() throws Exception {
+        User user = authService.createUser("routing-writer@example.com", "password123");
+        String authorization = "Bearer " + jwtUtil.generateToken(user.getId(), user.getEmail());
+        
+        mockMvc.perform(get("/api/events").header("Authorization", authorization))
+                .andExpect(status().isOk());
+        assertFalse(readYourWritesTracker.hasRecentWrite(user.getId()));
+        
+        mockMvc.perform(post("/api/events")
+                        .header("Authorization", authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Routed\",\"date\":\"" + LocalDate.now().plusDays(3) + "\"," +
+                                "\"budget\":100.00,\"attendeeCount\":10}"))
+                .andExpect(status().isCreated());
+        assertTrue(readYourWritesTracker.hasRecentWrite(user.getId()));
+    }
+    
+    private String currentUser(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT CURRENT_USER", String.class));
+    }
+}
@@ -0,0 +1,45 @@
+package com.eventplanner.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Actuator on a management port of its own, as in the prod profile.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "management.server.port=0")
+@AutoConfigureObservability
+@ActiveProfiles("test")
+public class ManagementPortSecurityTest {
+    
+    @Autowired
+    private TestRestTemplate restTemplate;
+    
+    @LocalServerPort
+    private int serverPort;
+    
+    @LocalManagementPort
+    private int managementPort;
+    
+    @Test
+    public void testScrapeIsPublicOnlyOnManagementPort() {
+        assertEquals(HttpStatus.OK, status(managementPort, "/actuator/prometheus"));
+        assertEquals(HttpStatus.OK, status(managementPort, "/actuator/health"));
+        // The API port serves no actuator endpoints, and needs a token for unknown paths
+        assertEquals(HttpStatus.FORBIDDEN, status(serverPort, "/actuator/prometheus"));
+    }
+    
+    private HttpStatus status(int port, String path) {
+        return HttpStatus.valueOf(restTemplate.getForEntity("http://localhost:" + port + path, String.class)
+                .getStatusCode().value());
+    }
+}
@@ -0,0 +1,70 @@
+package com.eventplanner.config;
+
+import com.eventplanner.entity.User;
+import com.eventplanner.security.JwtUtil;
+import com.eventplanner.security.OperatorTokenFilter;
+import com.eventplanner.service.AuthService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Actuator access when it shares the API port (no management.server.port).
+ */
+@SpringBootTest(properties = {
+        "management.endpoints.web.exposure.include=health,prometheus,eventsummary",
+        "security.operator-token=test-operator-token"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+public class SecurityConfigTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private AuthService authService;
+    
+    @Autowired
+    private JwtUtil jwtUtil;
+    
+    @Test
+    public void testOnlyHealthIsPublicOnApiPort() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+        
+        User user = authService.createUser("scraper@example.com", "password123");
+        mockMvc.perform(get("/actuator/prometheus")
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken(user.getId(), user.getEmail())))
+                .andExpect(status().isOk());
+    }
+    
+    @Test
+    public void testEventSummaryEndpointNeedsOperatorToken() throws Exception {
+        User user = authService.createUser("not-an-operator@example.com", "password123");
+        mockMvc.perform(post("/actuator/eventsummary")
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken(user.getId(), user.getEmail())))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/eventsummary")
+                        .header(OperatorTokenFilter.TOKEN_HEADER, "wrong-token"))
+                .andExpect(status().isForbidden());
+        
+        mockMvc.perform(get("/actuator/eventsummary")
+                        .header(OperatorTokenFilter.TOKEN_HEADER, "test-operator-token"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/actuator/eventsummary")
+                        .header(OperatorTokenFilter.TOKEN_HEADER, "test-operator-token"))
+                .andExpect(status().isOk());
+    }
+}
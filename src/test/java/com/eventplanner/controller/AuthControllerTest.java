@@ -0,0 +1,143 @@
+package com.eventplanner.controller;
+
+import com.eventplanner.entity.Event;
+import com.eventplanner.entity.User;
+import com.eventplanner.repository.RevokedTokenRepository;
+import com.eventplanner.security.JwtUtil;
+import com.eventplanner.service.AuthService;
+import com.eventplanner.service.EventService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class AuthControllerTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private AuthService authService;
+    
+    @Autowired
+    private EventService eventService;
+    
+    @Autowired
+    private JwtUtil jwtUtil;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+    
+    @Test
+    public void testSessionIsServedWithoutDatabaseQueries() throws Exception {
+        User user = authService.createUser("session@example.com", "password123");
+        String authorization = "Bearer " + jwtUtil.generateToken(user.getId(), user.getEmail());
+        
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        
+        // Repeated page loads are answered from the token claims alone
+        for (int i = 0; i < 200; i++) {
+            mockMvc.perform(get("/api/auth/session").header("Authorization", authorization))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.email").value("session@example.com"));
+        }
+        assertEquals(0, statistics.getPrepareStatementCount());
+        
+        // Fresh reads go through the user cache: one load, then hits. The load is served by the
+        // second-level cache, which has held the user since its insert committed
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/auth/session").param("fresh", "true").header("Authorization", authorization))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.userId").value(user.getId().toString()));
+        }
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("users").getHitCount());
+    }
+    
+    @Test
+    public void testLogoutRevokesToken() throws Exception {
+        User user = authService.createUser("logout@example.com", "password123");
+        String authorization = "Bearer " + jwtUtil.generateToken(user.getId(), user.getEmail());
+        String otherAuthorization = "Bearer " + jwtUtil.generateToken(user.getId(), user.getEmail());
+        
+        mockMvc.perform(get("/api/auth/session").header("Authorization", authorization))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/auth/logout").header("Authorization", authorization))
+                .andExpect(status().isOk());
+        
+        // Only the logged-out token is rejected, and the revocation is persisted
+        mockMvc.perform(get("/api/auth/session").header("Authorization", authorization))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/auth/session").header("Authorization", otherAuthorization))
+                .andExpect(status().isOk());
+        assertTrue(revokedTokenRepository.findAll().stream()
+                .anyMatch(revoked -> revoked.getUserId().equals(user.getId())));
+    }
+    
+    @Test
+    public void testSessionNegotiatesCbor() throws Exception {
+        User user = authService.createUser("cbor@example.com", "password123");
+        String authorization = "Bearer " + jwtUtil.generateToken(user.getId(), user.getEmail());
+        
+        // JSON stays the default
+        mockMvc.perform(get("/api/auth/session").header("Authorization", authorization))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        
+        byte[] body = mockMvc.perform(get("/api/auth/session")
+                        .header("Authorization", authorization)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        
+        JsonNode session = new CBORMapper().readTree(body);
+        assertEquals("cbor@example.com", session.get("email").asText());
+        
+        // Dates go out as the same ISO strings JSON clients get, not as arrays
+        Event event = new Event();
+        event.setUserId(user.getId());
+        event.setTitle("CBOR Event");
+        event.setDate(LocalDate.now().plusDays(5));
+        event.setBudget(new BigDecimal("100.00"));
+        event.setAttendeeCount(10);
+        event = eventService.createEvent(event);
+        
+        body = mockMvc.perform(get("/api/events/" + event.getId())
+                        .header("Authorization", authorization)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        
+        JsonNode eventNode = new CBORMapper().readTree(body);
+        assertTrue(eventNode.get("date").isTextual());
+        assertEquals(event.getDate().toString(), eventNode.get("date").asText());
+        assertTrue(eventNode.get("createdAt").isTextual());
+    }
+}
@@ -0,0 +1,213 @@
+package com.eventplanner.controller;
+
+import com.eventplanner.entity.User;
+import com.eventplanner.security.JwtUtil;
+import com.eventplanner.service.AuthService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class EventControllerTest {
+    
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\S+)");
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private AuthService authService;
+    
+    @Autowired
+    private JwtUtil jwtUtil;
+    
+    @Test
+    public void testChangeStreamPushesCreatesAndResumes() throws Exception {
+        String authorization = authorization("stream@example.com");
+        String otherAuthorization = authorization("stream-other@example.com");
+        
+        // A live subscriber is told about the new event
+        MvcResult live = mockMvc.perform(get("/api/events/stream").header("Authorization", authorization))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String firstId = createEvent(authorization, "First");
+        String liveFrames = awaitContent(live.getResponse(), firstId);
+        assertTrue(liveFrames.contains("event:created"));
+        Matcher matcher = EVENT_ID.matcher(liveFrames);
+        assertTrue(matcher.find());
+        String lastEventId = matcher.group(1);
+        
+        // A client reconnecting with Last-Event-ID gets only what it missed, and only its own changes
+        String otherUsersId = createEvent(otherAuthorization, "Not Yours");
+        String secondId = createEvent(authorization, "Second");
+        MvcResult resumed = mockMvc.perform(get("/api/events/stream")
+                        .header("Authorization", authorization)
+                        .header("Last-Event-ID", lastEventId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String replayed = awaitContent(resumed.getResponse(), secondId);
+        assertFalse(replayed.contains(firstId));
+        assertFalse(replayed.contains(otherUsersId));
+        
+        // An id this server never issued asks the client to reload
+        MvcResult unknown = mockMvc.perform(get("/api/events/stream")
+                        .header("Authorization", authorization)
+                        .header("Last-Event-ID", "elsewhere-42"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitContent(unknown.getResponse(), "event:reset");
+    }
+    
+    @Test
+    public void testPatchUpdatesFieldsAndRejectsStaleVersion() throws Exception {
+        String authorization = authorization("patch@example.com");
+        String eventId = createEvent(authorization, "Original");
+        
+        mockMvc.perform(patch("/api/events/" + eventId)
+                        .header("Authorization", authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Renamed\",\"version\":0}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Renamed"))
+                .andExpect(jsonPath("$.attendeeCount").value(10))
+                .andExpect(jsonPath("$.version").value(1));
+        
+        // A second writer that read version 0 loses
+        mockMvc.perform(patch("/api/events/" + eventId)
+                        .header("Authorization", authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"budget\":50.00,\"version\":0}"))
+                .andExpect(status().isConflict());
+        
+        // Another user's event is not found rather than in conflict
+        mockMvc.perform(patch("/api/events/" + eventId)
+                        .header("Authorization", authorization("patch-other@example.com"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"budget\":50.00,\"version\":1}"))
+                .andExpect(status().isNotFound());
+    }
+    
+    @Test
+    public void testEventETagChangesWithPatchesAndBudgetItems() throws Exception {
+        String authorization = authorization("etag@example.com");
+        String eventId = createEvent(authorization, "Tagged");
+        
+        String created = mockMvc.perform(get("/api/events/" + eventId).header("Authorization", authorization))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/events/" + eventId)
+                        .header("Authorization", authorization)
+                        .header(HttpHeaders.IF_NONE_MATCH, created))
+                .andExpect(status().isNotModified());
+        
+        mockMvc.perform(patch("/api/events/" + eventId)
+                        .header("Authorization", authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Retagged\",\"version\":0}"))
+                .andExpect(status().isOk());
+        String patched = mockMvc.perform(get("/api/events/" + eventId)
+                        .header("Authorization", authorization)
+                        .header(HttpHeaders.IF_NONE_MATCH, created))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Retagged"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(created, patched);
+        
+        // A budget item changes the spent total, and with it the version
+        mockMvc.perform(post("/api/events/" + eventId + "/budget-items")
+                        .header("Authorization", authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"description\":\"Venue\",\"amount\":40.00}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/events/" + eventId)
+                        .header("Authorization", authorization)
+                        .header(HttpHeaders.IF_NONE_MATCH, patched))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.spentTotal").value(40.00))
+                .andExpect(jsonPath("$.version").value(2));
+    }
+    
+    @Test
+    public void testSummaryFollowsCreatesAndUpdates() throws Exception {
+        String authorization = authorization("summary@example.com");
+        String eventId = createEvent(authorization, "Counted");
+        createEvent(authorization, "Also Counted");
+        
+        mockMvc.perform(patch("/api/events/" + eventId)
+                        .header("Authorization", authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"budget\":250.00,\"attendeeCount\":15,\"version\":0}"))
+                .andExpect(status().isOk());
+        
+        // A stale update leaves the summary alone
+        mockMvc.perform(patch("/api/events/" + eventId)
+                        .header("Authorization", authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"budget\":999.00,\"version\":0}"))
+                .andExpect(status().isConflict());
+        
+        mockMvc.perform(get("/api/events/summary").header("Authorization", authorization))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalEvents").value(2))
+                .andExpect(jsonPath("$.upcomingEvents").value(2))
+                .andExpect(jsonPath("$.pastEvents").value(0))
+                .andExpect(jsonPath("$.totalBudget").value(350.00))
+                .andExpect(jsonPath("$.totalAttendees").value(25));
+    }
+    
+    private String authorization(String email) {
+        User user = authService.createUser(email, "password123");
+        return "Bearer " + jwtUtil.generateToken(user.getId(), user.getEmail());
+    }
+    
+    private String createEvent(String authorization, String title) throws Exception {
+        String body = "{\"title\":\"" + title + "\",\"date\":\"" + LocalDate.now().plusDays(7) + "\"," +
+                "\"budget\":100.00,\"attendeeCount\":10}";
+        String response = mockMvc.perform(post("/api/events")
+                        .header("Authorization", authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").exists())
+                .andReturn().getResponse().getContentAsString();
+        return response.substring(response.indexOf("\"id\":\"") + 6, response.indexOf("\"id\":\"") + 42);
+    }
+    
+    // Frames are written from the dispatch pool, so poll until the expected one shows up
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            String content = response.getContentAsString();
+            if (content.contains(expected)) {
+                return content;
+            }
+            Thread.sleep(20);
+        }
+        fail("Stream never contained " + expected + " but was: " + response.getContentAsString());
+        return null;
+    }
+}
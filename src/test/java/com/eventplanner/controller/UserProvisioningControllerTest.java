@@ -0,0 +1,97 @@
+package com.eventplanner.controller;
+
+import com.eventplanner.entity.User;
+import com.eventplanner.repository.UserEventSummaryRepository;
+import com.eventplanner.repository.UserRepository;
+import com.eventplanner.service.AuthService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class UserProvisioningControllerTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private AuthService authService;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private UserEventSummaryRepository summaryRepository;
+    
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    
+    @Test
+    public void testBulkProvisioningReportsEachLine() throws Exception {
+        authService.createUser("existing@example.com", "password123");
+        // Test batches hold three lines, so this upload spans two batches
+        String upload = String.join("\n",
+                "{\"email\":\"first@example.com\",\"password\":\"password123\"}",
+                "{\"email\":\"first@example.com\",\"password\":\"other\"}",
+                "{\"email\":\"not-an-email\",\"password\":\"password123\"}",
+                "",
+                "{\"email\":\"existing@example.com\",\"password\":\"password123\"}",
+                "not json",
+                "{\"email\":\"second@example.com\",\"password\":\"secret456\"}");
+        
+        String response = mockMvc.perform(post("/api/admin/users/bulk")
+                        .header(UserProvisioningController.TOKEN_HEADER, "test-provisioning-token")
+                        .contentType("application/x-ndjson")
+                        .content(upload))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : response.split("\n")) {
+            results.add(objectMapper.readTree(line));
+        }
+        assertEquals(6, results.size());
+        assertEquals(List.of("created", "duplicate", "invalid", "exists", "invalid", "created"),
+                results.stream().map(result -> result.get("status").asText()).toList());
+        assertEquals(List.of(1L, 2L, 3L, 5L, 6L, 7L),
+                results.stream().map(result -> result.get("line").asLong()).toList());
+        assertEquals("Email must be valid", results.get(2).get("error").asText());
+        
+        // Created users can log in and start with an empty event summary
+        UUID secondId = UUID.fromString(results.get(5).get("id").asText());
+        User second = userRepository.findById(secondId).orElseThrow();
+        assertEquals("second@example.com", second.getEmail());
+        assertTrue(passwordEncoder.matches("secret456", second.getPasswordHash()));
+        assertTrue(summaryRepository.existsById(secondId));
+    }
+    
+    @Test
+    public void testBulkProvisioningRequiresToken() throws Exception {
+        mockMvc.perform(post("/api/admin/users/bulk")
+                        .header(UserProvisioningController.TOKEN_HEADER, "wrong")
+                        .contentType("application/x-ndjson")
+                        .content("{\"email\":\"nope@example.com\",\"password\":\"password123\"}"))
+                .andExpect(status().isForbidden());
+        
+        assertTrue(userRepository.findByEmail("nope@example.com").isEmpty());
+    }
+}
@@ -0,0 +1,102 @@
+package com.eventplanner.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two in-memory H2 databases stand in for the primary and a replica; H2's DATABASE()
+ * tells which one a statement ran on.
+ */
+public class ReadWriteRoutingDataSourceTest {
+    
+    private static final DataSource PRIMARY = h2("rw_primary");
+    private static final DataSource REPLICA = h2("rw_replica");
+    // IFEXISTS refuses to create the database, so every connection attempt fails
+    private static final DataSource UNREACHABLE = new DriverManagerDataSource("jdbc:h2:mem:rw_missing;IFEXISTS=TRUE", "sa", "");
+    
+    @AfterEach
+    public void tearDown() {
+        ReadWriteRoutingDataSource.requirePrimary(false);
+    }
+    
+    @Test
+    public void testReadOnlyTransactionsUseReplica() {
+        ReadWriteRoutingDataSource routing = routing(Map.of("replica-1", REPLICA), "");
+        
+        assertEquals("RW_REPLICA", databaseIn(routing, true));
+        assertEquals("RW_PRIMARY", databaseIn(routing, false));
+        assertEquals("RW_PRIMARY", new JdbcTemplate(new LazyConnectionDataSourceProxy(routing))
+                .queryForObject("SELECT DATABASE()", String.class));
+    }
+    
+    @Test
+    public void testRequirePrimaryKeepsReadsOnPrimary() {
+        ReadWriteRoutingDataSource routing = routing(Map.of("replica-1", REPLICA), "");
+        
+        ReadWriteRoutingDataSource.requirePrimary(true);
+        assertEquals("RW_PRIMARY", databaseIn(routing, true));
+        ReadWriteRoutingDataSource.requirePrimary(false);
+        assertEquals("RW_REPLICA", databaseIn(routing, true));
+    }
+    
+    @Test
+    public void testUnreachableReplicaIsSkipped() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", UNREACHABLE);
+        replicas.put("replica-2", REPLICA);
+        ReadWriteRoutingDataSource routing = routing(replicas, "");
+        
+        // Whichever replica comes first, reads end up on the reachable one
+        for (int i = 0; i < 4; i++) {
+            assertEquals("RW_REPLICA", databaseIn(routing, true));
+        }
+        assertEquals(1, routing.getHealthyReplicaCount());
+        routing.checkHealth();
+        assertEquals(1, routing.getHealthyReplicaCount());
+        
+        // With no replica left, reads fall back to the primary
+        ReadWriteRoutingDataSource onlyUnreachable = routing(Map.of("replica-1", UNREACHABLE), "");
+        assertEquals("RW_PRIMARY", databaseIn(onlyUnreachable, true));
+        assertEquals(0, onlyUnreachable.getHealthyReplicaCount());
+    }
+    
+    @Test
+    public void testLaggingReplicaLeavesRotationUntilCaughtUp() {
+        ReadWriteRoutingDataSource lagging = routing(Map.of("replica-1", REPLICA), "SELECT 10");
+        lagging.checkHealth();
+        assertEquals(0, lagging.getHealthyReplicaCount());
+        assertEquals("RW_PRIMARY", databaseIn(lagging, true));
+        
+        ReadWriteRoutingDataSource caughtUp = routing(Map.of("replica-1", REPLICA), "SELECT 1");
+        caughtUp.checkHealth();
+        assertEquals(1, caughtUp.getHealthyReplicaCount());
+    }
+    
+    private static String databaseIn(ReadWriteRoutingDataSource routing, boolean readOnly) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class));
+    }
+    
+    private static ReadWriteRoutingDataSource routing(Map<String, DataSource> replicas, String lagQuery) {
+        return new ReadWriteRoutingDataSource(PRIMARY, replicas, lagQuery, Duration.ofSeconds(5));
+    }
+    
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
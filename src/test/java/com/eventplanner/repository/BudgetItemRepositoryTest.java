@@ -0,0 +1,100 @@
+package com.eventplanner.repository;
+
+import com.eventplanner.entity.BudgetItem;
+import com.eventplanner.entity.Event;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+public class BudgetItemRepositoryTest {
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Autowired
+    private BudgetItemRepository budgetItemRepository;
+    
+    @Autowired
+    private EventRepository eventRepository;
+    
+    @Test
+    public void testFindByEventIdAndSum() {
+        // Create an event with two budget items
+        Event event = entityManager.persist(newEvent());
+        budgetItemRepository.save(newItem(event.getId(), "Venue", "500.00"));
+        budgetItemRepository.save(newItem(event.getId(), "Catering", "250.50"));
+        entityManager.flush();
+        
+        // Verify items and total
+        List<BudgetItem> items = budgetItemRepository.findByEventIdOrderByCreatedAtAsc(event.getId());
+        assertEquals(2, items.size());
+        assertEquals(0, new BigDecimal("750.50").compareTo(budgetItemRepository.sumAmountByEventId(event.getId())));
+        assertEquals(0, BigDecimal.ZERO.compareTo(budgetItemRepository.sumAmountByEventId(UUID.randomUUID())));
+    }
+    
+    @Test
+    public void testAddToSpentTotal() {
+        // Create event
+        Event event = entityManager.persist(newEvent());
+        entityManager.flush();
+        
+        // Adjust the maintained total
+        LocalDateTime now = LocalDateTime.now().plusMinutes(1).truncatedTo(ChronoUnit.MICROS);
+        eventRepository.addToSpentTotal(event.getId(), new BigDecimal("100.00"), now);
+        eventRepository.addToSpentTotal(event.getId(), new BigDecimal("-40.00"), now);
+        entityManager.clear();
+        
+        // Each adjustment is a new version, stamped with the given time
+        Event reloaded = eventRepository.findById(event.getId()).orElseThrow();
+        assertEquals(0, new BigDecimal("60.00").compareTo(reloaded.getSpentTotal()));
+        assertEquals(event.getVersion() + 2, reloaded.getVersion());
+        assertEquals(now, reloaded.getUpdatedAt());
+    }
+    
+    @Test
+    public void testFindIdsWithSpentTotalDrift() {
+        // One event in sync, one with a total that does not match its items
+        Event inSync = entityManager.persist(newEvent());
+        Event drifted = entityManager.persist(newEvent());
+        budgetItemRepository.save(newItem(inSync.getId(), "Venue", "300.00"));
+        budgetItemRepository.save(newItem(drifted.getId(), "Venue", "300.00"));
+        entityManager.flush();
+        eventRepository.addToSpentTotal(inSync.getId(), new BigDecimal("300.00"), LocalDateTime.now());
+        eventRepository.addToSpentTotal(drifted.getId(), new BigDecimal("200.00"), LocalDateTime.now());
+        
+        List<UUID> driftedIds = eventRepository.findIdsWithSpentTotalDrift();
+        assertEquals(List.of(drifted.getId()), driftedIds);
+    }
+    
+    private static Event newEvent() {
+        Event event = new Event();
+        event.setUserId(UUID.randomUUID());
+        event.setTitle("Budget Event");
+        event.setDate(LocalDate.now().plusDays(7));
+        event.setBudget(new BigDecimal("1000.00"));
+        event.setDescription("Test");
+        event.setAttendeeCount(50);
+        return event;
+    }
+    
+    private static BudgetItem newItem(UUID eventId, String description, String amount) {
+        BudgetItem item = new BudgetItem();
+        item.setEventId(eventId);
+        item.setDescription(description);
+        item.setAmount(new BigDecimal(amount));
+        return item;
+    }
+}
@@ -1,16 +1,31 @@
 package com.eventplanner.repository;
 
+import com.eventplanner.dto.CalendarEntry;
+import com.eventplanner.dto.EventCollectionVersion;
+import com.eventplanner.dto.EventCursor;
+import com.eventplanner.dto.EventField;
+import com.eventplanner.dto.EventResponse;
+import com.eventplanner.dto.UpdateEventRequest;
 import com.eventplanner.entity.Event;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -21,6 +36,9 @@ public class EventRepositoryTest {
     @Autowired
     private EventRepository eventRepository;
     
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
     @Test
     public void testCreateAndFindEvent() {
         // Create test event
@@ -98,4 +116,245 @@ public class EventRepositoryTest {
         Optional<Event> notFound = eventRepository.findByIdAndUserId(savedEvent.getId(), wrongUserId);
         assertFalse(notFound.isPresent());
     }
+    
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void testEventsAreNotSecondLevelCached() {
+        // Committed for real (no test transaction), so a second-level cache would see the insert
+        UUID userId = UUID.randomUUID();
+        Event event = new Event();
+        event.setUserId(userId);
+        event.setTitle("Uncached Event");
+        event.setDate(LocalDate.now().plusDays(7));
+        event.setBudget(new BigDecimal("1000.00"));
+        event.setDescription("Test");
+        event.setAttendeeCount(50);
+        Event savedEvent = eventRepository.save(event);
+        
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        
+        // Another instance could have changed the row, so every read goes to the database
+        for (int i = 0; i < 2; i++) {
+            assertTrue(eventRepository.findById(savedEvent.getId()).isPresent());
+            assertEquals("Uncached Event", eventRepository.findByIdAndUserId(savedEvent.getId(), userId).orElseThrow().getTitle());
+        }
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getSecondLevelCachePutCount());
+        assertEquals(0, statistics.getQueryCachePutCount());
+        
+        eventRepository.deleteById(savedEvent.getId());
+    }
+    
+    @Test
+    public void testKeysetPagination() {
+        // Create five events for one user on two distinct dates
+        UUID userId = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            Event event = new Event();
+            event.setUserId(userId);
+            event.setTitle("Event " + i);
+            event.setDate(LocalDate.now().plusDays(7 + i % 2));
+            event.setBudget(new BigDecimal("1000.00"));
+            event.setDescription("Test");
+            event.setAttendeeCount(50);
+            eventRepository.save(event);
+        }
+        
+        // Walk the pages two at a time
+        List<EventResponse> seen = new ArrayList<>();
+        List<EventResponse> page = eventRepository.findFirstPageByUserId(userId, Limit.of(2));
+        while (!page.isEmpty()) {
+            seen.addAll(page);
+            EventResponse last = page.get(page.size() - 1);
+            page = eventRepository.findPageByUserIdAfter(userId, last.getDate(), last.getId(), Limit.of(2));
+        }
+        
+        // Verify every event is returned exactly once, in date order
+        assertEquals(5, seen.size());
+        assertEquals(5, seen.stream().map(EventResponse::getId).distinct().count());
+        for (int i = 1; i < seen.size(); i++) {
+            assertFalse(seen.get(i).getDate().isBefore(seen.get(i - 1).getDate()));
+        }
+    }
+    
+    @Test
+    public void testStreamByUserId() {
+        // Create test event
+        UUID userId = UUID.randomUUID();
+        Event event = new Event();
+        event.setUserId(userId);
+        event.setTitle("Streamed Event");
+        event.setDate(LocalDate.now().plusDays(7));
+        event.setBudget(new BigDecimal("1000.00"));
+        event.setDescription("Test");
+        event.setAttendeeCount(50);
+        eventRepository.save(event);
+        
+        // Stream events for the user
+        try (Stream<EventResponse> events = eventRepository.streamByUserId(userId)) {
+            List<String> titles = events.map(EventResponse::getTitle).toList();
+            assertEquals(List.of("Streamed Event"), titles);
+        }
+    }
+    
+    @Test
+    public void testSaveAllUsesJdbcBatching() {
+        // Create 120 events for one user
+        UUID userId = UUID.randomUUID();
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            Event event = new Event();
+            event.setUserId(userId);
+            event.setTitle("Batch Event " + i);
+            event.setDate(LocalDate.now().plusDays(7));
+            event.setBudget(new BigDecimal("1000.00"));
+            event.setDescription("Test");
+            event.setAttendeeCount(50);
+            events.add(event);
+        }
+        
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        
+        // Save and flush
+        eventRepository.saveAll(events);
+        eventRepository.flush();
+        
+        // Ids are assigned in the application and the inserts go out in batches of 50
+        assertTrue(events.stream().allMatch(event -> event.getId() != null));
+        assertEquals(120, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 3);
+    }
+    
+    @Test
+    public void testCollectionVersionMatchesLoadedEvents() {
+        // No events yet
+        UUID userId = UUID.randomUUID();
+        assertEquals(EventCollectionVersion.of(List.of()).toETag(),
+                eventRepository.findCollectionVersionByUserId(userId).toETag());
+        
+        // Create two events
+        for (int i = 0; i < 2; i++) {
+            Event event = new Event();
+            event.setUserId(userId);
+            event.setTitle("Versioned Event " + i);
+            event.setDate(LocalDate.now().plusDays(7));
+            event.setBudget(new BigDecimal("1000.00"));
+            event.setDescription("Test");
+            event.setAttendeeCount(50);
+            eventRepository.save(event);
+        }
+        eventRepository.flush();
+        
+        // The probe and the loaded list agree, and deleting an event changes the version
+        EventCollectionVersion probed = eventRepository.findCollectionVersionByUserId(userId);
+        List<EventResponse> loaded = eventRepository.findResponsesByUserId(userId);
+        assertEquals(2L, probed.getCount());
+        assertEquals(EventCollectionVersion.of(loaded).toETag(), probed.toETag());
+        
+        eventRepository.deleteById(loaded.get(0).getId());
+        eventRepository.flush();
+        assertNotEquals(probed.toETag(), eventRepository.findCollectionVersionByUserId(userId).toETag());
+    }
+    
+    @Test
+    public void testFindFieldsSelectsOnlyRequestedColumns() {
+        // Create three events for one user
+        UUID userId = UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            Event event = new Event();
+            event.setUserId(userId);
+            event.setTitle("Sparse Event " + i);
+            event.setDate(LocalDate.now().plusDays(7 + i));
+            event.setBudget(new BigDecimal("1000.00"));
+            event.setDescription("Long description that the dashboard does not need");
+            event.setAttendeeCount(50);
+            eventRepository.save(event);
+        }
+        eventRepository.flush();
+        
+        // Only id, the keyset column and the requested title come back
+        List<Map<String, Object>> rows = eventRepository.findFieldsByUserId(
+                userId, EventField.parse("title"), null, 2);
+        assertEquals(2, rows.size());
+        assertEquals(List.of("id", "title", "date"), List.copyOf(rows.get(0).keySet()));
+        assertEquals("Sparse Event 0", rows.get(0).get("title"));
+        
+        // The next page continues after the last row
+        Map<String, Object> last = rows.get(1);
+        EventCursor after = new EventCursor((LocalDate) last.get("date"), (UUID) last.get("id"));
+        List<Map<String, Object>> next = eventRepository.findFieldsByUserId(
+                userId, EventField.parse("title"), after, 2);
+        assertEquals(1, next.size());
+        assertEquals("Sparse Event 2", next.get(0).get("title"));
+        
+        assertThrows(IllegalArgumentException.class, () -> EventField.parse("title,password"));
+    }
+    
+    @Test
+    public void testFindCalendarGroupsByDay() {
+        // Two events on one day, one on the next, one outside the range and one of another user
+        UUID userId = UUID.randomUUID();
+        LocalDate day = LocalDate.now().plusDays(10);
+        int[] offsets = {0, 0, 1, 40};
+        for (int offset : offsets) {
+            Event event = new Event();
+            event.setUserId(userId);
+            event.setTitle("Calendar Event");
+            event.setDate(day.plusDays(offset));
+            event.setBudget(new BigDecimal("100.50"));
+            event.setAttendeeCount(10);
+            eventRepository.save(event);
+        }
+        Event other = new Event();
+        other.setUserId(UUID.randomUUID());
+        other.setTitle("Other User");
+        other.setDate(day);
+        other.setBudget(new BigDecimal("999.00"));
+        other.setAttendeeCount(99);
+        eventRepository.save(other);
+        eventRepository.flush();
+        
+        List<CalendarEntry> entries = eventRepository.findCalendarByUserId(userId, day, day.plusDays(30));
+        
+        assertEquals(2, entries.size());
+        assertEquals(day, entries.get(0).getDate());
+        assertEquals(2, entries.get(0).getEventCount());
+        assertEquals(0, new BigDecimal("201.00").compareTo(entries.get(0).getTotalBudget()));
+        assertEquals(20, entries.get(0).getTotalAttendees());
+        assertEquals(day.plusDays(1), entries.get(1).getDate());
+        assertEquals(1, entries.get(1).getEventCount());
+    }
+    
+    @Test
+    public void testUpdateFieldsIsConditionalOnVersion() {
+        // Create event (version 0)
+        UUID userId = UUID.randomUUID();
+        Event event = new Event();
+        event.setUserId(userId);
+        event.setTitle("Before");
+        event.setDate(LocalDate.now().plusDays(7));
+        event.setBudget(new BigDecimal("1000.00"));
+        event.setDescription("Unchanged");
+        event.setAttendeeCount(50);
+        Event saved = eventRepository.saveAndFlush(event);
+        assertEquals(0L, saved.getVersion());
+        
+        // Only the supplied field changes, and the version moves on
+        UpdateEventRequest update = new UpdateEventRequest();
+        update.setTitle("After");
+        update.setVersion(0L);
+        assertEquals(1, eventRepository.updateFields(saved.getId(), userId, update));
+        
+        EventResponse updated = eventRepository.findResponseByIdAndUserId(saved.getId(), userId).orElseThrow();
+        assertEquals("After", updated.getTitle());
+        assertEquals("Unchanged", updated.getDescription());
+        assertEquals(1L, updated.getVersion());
+        
+        // A stale version or another user's id matches nothing
+        assertEquals(0, eventRepository.updateFields(saved.getId(), userId, update));
+        update.setVersion(1L);
+        assertEquals(0, eventRepository.updateFields(saved.getId(), UUID.randomUUID(), update));
+    }
 }
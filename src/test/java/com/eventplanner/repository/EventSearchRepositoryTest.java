@@ -0,0 +1,93 @@
+package com.eventplanner.repository;
+
+import com.eventplanner.dto.EventSearchCursor;
+import com.eventplanner.dto.EventSearchHit;
+import com.eventplanner.entity.Event;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PortableEventSearchRepository.class)
+public class EventSearchRepositoryTest {
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Autowired
+    private EventSearchRepository eventSearchRepository;
+    
+    @Test
+    public void testSearchRanksTitleMatchesFirstAndIsScopedToUser() {
+        UUID userId = UUID.randomUUID();
+        Event inDescription = entityManager.persist(newEvent(userId, "Team Offsite", "Book the Venue early"));
+        Event inTitle = entityManager.persist(newEvent(userId, "Venue Walkthrough", "Check the stage"));
+        entityManager.persist(newEvent(userId, "Birthday", "Cake and balloons"));
+        entityManager.persist(newEvent(UUID.randomUUID(), "Venue Tour", "Someone else's event"));
+        entityManager.flush();
+        
+        List<EventSearchHit> hits = eventSearchRepository.search(userId, "venue", null, 10);
+        
+        assertEquals(List.of(inTitle.getId(), inDescription.getId()), ids(hits));
+        assertTrue(hits.get(0).getRank() > hits.get(1).getRank());
+        // Every term has to match, and LIKE wildcards in the query are literal
+        assertEquals(List.of(inDescription.getId()), ids(eventSearchRepository.search(userId, "venue EARLY", null, 10)));
+        assertTrue(eventSearchRepository.search(userId, "%", null, 10).isEmpty());
+    }
+    
+    @Test
+    public void testSearchKeysetPagination() {
+        UUID userId = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(newEvent(userId, "Gala " + i, "Dinner"));
+            entityManager.persist(newEvent(userId, "Meeting " + i, "Gala prep"));
+        }
+        entityManager.flush();
+        
+        // Walk the results three at a time and compare with a single full read
+        List<UUID> all = ids(eventSearchRepository.search(userId, "gala", null, 100));
+        List<UUID> paged = new ArrayList<>();
+        EventSearchCursor cursor = null;
+        List<EventSearchHit> page;
+        do {
+            page = eventSearchRepository.search(userId, "gala", cursor, 3);
+            paged.addAll(ids(page));
+            if (!page.isEmpty()) {
+                cursor = EventSearchCursor.decode(EventSearchCursor.of(page.get(page.size() - 1)).encode());
+            }
+        } while (page.size() == 3);
+        
+        assertEquals(10, all.size());
+        assertEquals(all, paged);
+    }
+    
+    private static List<UUID> ids(List<EventSearchHit> hits) {
+        return hits.stream()
+                .map(hit -> hit.getEvent().getId())
+                .collect(Collectors.toList());
+    }
+    
+    private static Event newEvent(UUID userId, String title, String description) {
+        Event event = new Event();
+        event.setUserId(userId);
+        event.setTitle(title);
+        event.setDate(LocalDate.now().plusDays(7));
+        event.setBudget(new BigDecimal("1000.00"));
+        event.setDescription(description);
+        event.setAttendeeCount(50);
+        return event;
+    }
+}
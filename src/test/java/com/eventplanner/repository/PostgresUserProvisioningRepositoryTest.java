@@ -0,0 +1,84 @@
+package com.eventplanner.repository;
+
+import com.eventplanner.entity.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The PostgreSQL statements (ON CONFLICT ... RETURNING with the summary CTE, and the COPY
+ * staging path) against a real server; H2 cannot run them. Skipped unless POSTGRES_TEST_URL
+ * points at a scratch database, e.g. {@code jdbc:postgresql://localhost:5432/eventat_test}.
+ * Flyway migrates it first.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=${POSTGRES_TEST_URL}",
+    "spring.datasource.driver-class-name=org.postgresql.Driver",
+    "spring.datasource.username=${POSTGRES_TEST_USERNAME:postgres}",
+    "spring.datasource.password=${POSTGRES_TEST_PASSWORD:postgres}",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+    "spring.jpa.hibernate.ddl-auto=none",
+    "spring.flyway.enabled=true",
+    "users.provisioning.mode=postgres"
+})
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "POSTGRES_TEST_URL", matches = ".+")
+public class PostgresUserProvisioningRepositoryTest {
+    
+    @Autowired
+    private UserProvisioningRepository provisioningRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    public void testInsertValuesSkipsExistingEmails() {
+        assertInsertsOnlyNewEmails(false);
+    }
+    
+    @Test
+    public void testCopyStagingSkipsExistingEmails() {
+        assertInsertsOnlyNewEmails(true);
+    }
+    
+    private void assertInsertsOnlyNewEmails(boolean useCopy) {
+        assertInstanceOf(PostgresUserProvisioningRepository.class, provisioningRepository);
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(provisioningRepository), "useCopy", useCopy);
+        
+        String prefix = UUID.randomUUID().toString();
+        User existing = newUser(prefix + "-existing@example.com");
+        assertEquals(Set.of(existing.getId()), provisioningRepository.insertMissing(List.of(existing)));
+        
+        // The existing email is skipped, not failed; quotes and commas survive the CSV path
+        User again = newUser(existing.getEmail());
+        User fresh = newUser("\"" + prefix + ",fresh\"@example.com");
+        Set<UUID> inserted = provisioningRepository.insertMissing(List.of(again, fresh));
+        
+        assertEquals(Set.of(fresh.getId()), inserted);
+        assertEquals(fresh.getEmail(), jdbcTemplate.queryForObject(
+                "SELECT email FROM users WHERE id = ?", String.class, fresh.getId()));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_event_summary WHERE user_id = ?", Integer.class, fresh.getId()));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE id = ?", Integer.class, again.getId()));
+    }
+    
+    private static User newUser(String email) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail(email);
+        user.setPasswordHash("$2a$10$hash,with\"quotes");
+        return user;
+    }
+}
@@ -0,0 +1,139 @@
+package com.eventplanner.repository;
+
+import com.eventplanner.dto.TaskCursor;
+import com.eventplanner.dto.TaskFilter;
+import com.eventplanner.entity.Task;
+import com.eventplanner.entity.TaskPriority;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.eventplanner.repository.TaskRepositoryTest$SqlRecorder")
+@ActiveProfiles("test")
+public class TaskRepositoryTest {
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Autowired
+    private TaskRepository taskRepository;
+    
+    @Test
+    public void testFilterByPriorityAndStatus() {
+        UUID eventId = UUID.randomUUID();
+        taskRepository.save(newTask(eventId, TaskPriority.HIGH, 0, 1));
+        taskRepository.save(newTask(eventId, TaskPriority.HIGH, 50, 2));
+        taskRepository.save(newTask(eventId, TaskPriority.LOW, 100, 3));
+        taskRepository.save(newTask(UUID.randomUUID(), TaskPriority.HIGH, 50, 1));
+        entityManager.flush();
+        
+        List<Task> high = taskRepository.findPage(eventId,
+                new TaskFilter(TaskPriority.HIGH, null, TaskFilter.Sort.PRIORITY), null, 10);
+        assertEquals(2, high.size());
+        
+        List<Task> highInProgress = taskRepository.findPage(eventId,
+                new TaskFilter(TaskPriority.HIGH, TaskFilter.Status.IN_PROGRESS, TaskFilter.Sort.PRIORITY), null, 10);
+        assertEquals(1, highInProgress.size());
+        assertEquals(50, highInProgress.get(0).getProgress());
+        
+        List<Task> completed = taskRepository.findPage(eventId,
+                new TaskFilter(null, TaskFilter.Status.COMPLETED, TaskFilter.Sort.DATE), null, 10);
+        assertEquals(1, completed.size());
+        assertEquals(TaskPriority.LOW, completed.get(0).getPriority());
+    }
+    
+    @Test
+    public void testKeysetPaginationByPriority() {
+        // Low priority first by date, so insertion order differs from the expected order
+        UUID eventId = UUID.randomUUID();
+        for (int i = 0; i < 7; i++) {
+            taskRepository.save(newTask(eventId, TaskPriority.values()[2 - i % 3], 0, i));
+        }
+        entityManager.flush();
+        
+        // Walk the pages and collect every task exactly once
+        TaskFilter filter = new TaskFilter();
+        List<Task> seen = new ArrayList<>();
+        TaskCursor cursor = null;
+        List<Task> page;
+        do {
+            page = taskRepository.findPage(eventId, filter, cursor, 3);
+            seen.addAll(page);
+            if (!page.isEmpty()) {
+                cursor = TaskCursor.of(page.get(page.size() - 1));
+            }
+        } while (page.size() == 3);
+        
+        assertEquals(7, seen.size());
+        Set<UUID> ids = new HashSet<>();
+        seen.forEach(task -> ids.add(task.getId()));
+        assertEquals(7, ids.size());
+        for (int i = 1; i < seen.size(); i++) {
+            Task previous = seen.get(i - 1);
+            Task current = seen.get(i);
+            int byRank = Short.compare(previous.getPriority().getRank(), current.getPriority().getRank());
+            assertTrue(byRank < 0 || (byRank == 0 && !previous.getDate().isAfter(current.getDate())));
+        }
+    }
+    
+    @Test
+    public void testPriorityQueryUsesCompositeIndex() {
+        // Guards against the filtered list query losing its (event_id, priority) index prefix;
+        // the plan is for the SQL that findPage actually sends
+        UUID eventId = UUID.randomUUID();
+        SqlRecorder.statements.clear();
+        taskRepository.findPage(eventId, new TaskFilter(TaskPriority.HIGH, null, TaskFilter.Sort.PRIORITY), null, 10);
+        List<String> selects = SqlRecorder.statements.stream()
+                .filter(sql -> sql.toLowerCase().contains("from tasks"))
+                .toList();
+        assertEquals(1, selects.size(), selects::toString);
+        
+        // Parameters in order: event id, priority, row limit
+        String plan = String.valueOf(entityManager.getEntityManager()
+                .createNativeQuery("EXPLAIN " + selects.get(0))
+                .setParameter(1, eventId)
+                .setParameter(2, TaskPriority.HIGH.getRank())
+                .setParameter(3, 10)
+                .getSingleResult());
+        
+        assertTrue(plan.toUpperCase().contains("IDX_TASKS_EVENT_PRIORITY_DATE"), plan);
+    }
+    
+    /**
+     * Records every SQL statement Hibernate prepares in this test's persistence unit.
+     */
+    public static class SqlRecorder implements StatementInspector {
+        
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+        
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+    
+    private static Task newTask(UUID eventId, TaskPriority priority, int progress, int daysAhead) {
+        Task task = new Task();
+        task.setEventId(eventId);
+        task.setTitle("Task " + daysAhead);
+        task.setPriority(priority);
+        task.setProgress(progress);
+        task.setDate(LocalDate.now().plusDays(daysAhead));
+        return task;
+    }
+}
@@ -0,0 +1,123 @@
+package com.eventplanner.repository;
+
+import com.eventplanner.entity.Event;
+import com.eventplanner.entity.UserEventSummary;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+public class UserEventSummaryRepositoryTest {
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Autowired
+    private UserEventSummaryRepository summaryRepository;
+    
+    @Test
+    public void testDeltasMatchRecomputedTotals() {
+        UUID userId = UUID.randomUUID();
+        LocalDate today = LocalDate.now();
+        summaryRepository.saveAndFlush(new UserEventSummary(userId, 0, 0, BigDecimal.ZERO, 0, today));
+        
+        // Two events next week, then one is moved to yesterday with a bigger budget
+        persistEvent(userId, today.plusDays(7), "100.00", 10);
+        Event moved = persistEvent(userId, today.plusDays(7), "100.00", 10);
+        summaryRepository.addEvents(userId, today.plusDays(7), 2, new BigDecimal("200.00"), 20);
+        
+        // The old values come from the event row, which must still be at the given version
+        assertEquals(0, summaryRepository.updateEvent(userId, moved.getId(), moved.getVersion() + 1,
+                today.minusDays(1), new BigDecimal("150.00"), 5));
+        assertEquals(1, summaryRepository.updateEvent(userId, moved.getId(), moved.getVersion(),
+                today.minusDays(1), new BigDecimal("150.00"), 5));
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Event e SET e.date = :date, e.budget = 150.00, e.attendeeCount = 5 WHERE e.id = :id")
+                .setParameter("date", today.minusDays(1))
+                .setParameter("id", moved.getId())
+                .executeUpdate();
+        entityManager.clear();
+        
+        UserEventSummary stored = summaryRepository.findById(userId).orElseThrow();
+        UserEventSummary actual = summaryRepository.computeForUser(userId, today).orElseThrow();
+        assertEquals(2, stored.getTotalEvents());
+        assertEquals(1, stored.getUpcomingEvents());
+        assertEquals(0, new BigDecimal("250.00").compareTo(stored.getTotalBudget()));
+        assertEquals(15, stored.getTotalAttendees());
+        assertEquals(stored.getTotalEvents(), actual.getTotalEvents());
+        assertEquals(stored.getUpcomingEvents(), actual.getUpcomingEvents());
+        assertEquals(0, stored.getTotalBudget().compareTo(actual.getTotalBudget()));
+        assertEquals(stored.getTotalAttendees(), actual.getTotalAttendees());
+        
+        assertEquals(0, summaryRepository.addEvents(UUID.randomUUID(), today, 1, BigDecimal.ONE, 1));
+    }
+    
+    @Test
+    public void testUpdateEventKeepsOmittedFields() {
+        UUID userId = UUID.randomUUID();
+        LocalDate today = LocalDate.now();
+        summaryRepository.saveAndFlush(new UserEventSummary(userId, 1, 1, new BigDecimal("100.00"), 10, today));
+        Event event = persistEvent(userId, today.plusDays(7), "100.00", 10);
+        
+        // Only the attendees change; date and budget are taken from the row unchanged
+        assertEquals(1, summaryRepository.updateEvent(userId, event.getId(), event.getVersion(), null, null, 25));
+        entityManager.clear();
+        
+        UserEventSummary stored = summaryRepository.findById(userId).orElseThrow();
+        assertEquals(1, stored.getUpcomingEvents());
+        assertEquals(0, new BigDecimal("100.00").compareTo(stored.getTotalBudget()));
+        assertEquals(25, stored.getTotalAttendees());
+    }
+    
+    @Test
+    public void testRollForwardMovesPassedEventsToPast() {
+        UUID userId = UUID.randomUUID();
+        LocalDate today = LocalDate.now();
+        // Summary last rolled three days ago, when all three events were upcoming
+        summaryRepository.saveAndFlush(new UserEventSummary(userId, 3, 3, new BigDecimal("300.00"), 30, today.minusDays(3)));
+        persistEvent(userId, today.minusDays(2), "100.00", 10);
+        persistEvent(userId, today.minusDays(1), "100.00", 10);
+        persistEvent(userId, today, "100.00", 10);
+        entityManager.flush();
+        
+        assertEquals(2, summaryRepository.countPassedSince(userId, today.minusDays(3), today));
+        
+        List<UserEventSummary> stale = summaryRepository.findStaleForUpdate(today, Limit.of(10));
+        assertEquals(1, stale.size());
+        assertEquals(1, summaryRepository.rollForward(List.of(userId), today));
+        
+        UserEventSummary rolled = summaryRepository.findById(userId).orElseThrow();
+        assertEquals(1, rolled.getUpcomingEvents());
+        assertEquals(today, rolled.getAsOf());
+        assertTrue(summaryRepository.findStaleForUpdate(today, Limit.of(10)).isEmpty());
+    }
+    
+    // Events must be dated in the future when persisted, so older dates are set afterwards
+    private Event persistEvent(UUID userId, LocalDate date, String budget, int attendees) {
+        Event event = new Event();
+        event.setUserId(userId);
+        event.setTitle("Summary Event");
+        event.setDate(LocalDate.now().plusDays(1));
+        event.setBudget(new BigDecimal(budget));
+        event.setDescription("Test");
+        event.setAttendeeCount(attendees);
+        entityManager.persistAndFlush(event);
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Event e SET e.date = :date WHERE e.id = :id")
+                .setParameter("date", date)
+                .setParameter("id", event.getId())
+                .executeUpdate();
+        return event;
+    }
+}
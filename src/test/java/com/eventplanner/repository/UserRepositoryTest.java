@@ -1,16 +1,23 @@
 package com.eventplanner.repository;
 
 import com.eventplanner.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
+@ActiveProfiles("test")
 public class UserRepositoryTest {
     
     @Autowired
@@ -19,6 +26,9 @@ public class UserRepositoryTest {
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
     @Test
     public void testFindByEmail() {
         // Given
@@ -44,4 +54,27 @@ public class UserRepositoryTest {
         // Then
         assertThat(found).isEmpty();
     }
+    
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void testFindByEmailIsServedFromNaturalIdCache() {
+        // Committed for real (no test transaction), so the second-level cache sees the insert
+        User user = new User();
+        user.setEmail("cached@example.com");
+        user.setPasswordHash("hashedpassword");
+        User savedUser = userRepository.save(user);
+        
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        
+        // The email resolves to the id through users-by-email and the row comes from the users region
+        for (int i = 0; i < 3; i++) {
+            assertThat(userRepository.findByEmail("cached@example.com")).isPresent();
+        }
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(3);
+        assertThat(statistics.getDomainDataRegionStatistics("users").getHitCount()).isEqualTo(3);
+        
+        userRepository.deleteById(savedUser.getId());
+    }
 }
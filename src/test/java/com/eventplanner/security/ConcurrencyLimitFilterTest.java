@@ -0,0 +1,59 @@
+package com.eventplanner.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrencyLimitFilterTest {
+    
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, 10, new ObjectMapper().findAndRegisterModules(),
+            Set.of("/api/events/stream"));
+    
+    @Test
+    public void testAsyncRequestHoldsPermitUntilComplete() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setAsyncSupported(true);
+        
+        // The handler starts async work and returns, like the CompletableFuture login
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> req.startAsync());
+        assertEquals(0, filter.getAvailablePermits());
+        
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/events"), rejected,
+                (req, res) -> fail("should have been shed"));
+        assertEquals(503, rejected.getStatus());
+        
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertEquals(1, filter.getAvailablePermits());
+    }
+    
+    @Test
+    public void testSyncRequestReleasesPermitOnReturn() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/events"), new MockHttpServletResponse(),
+                (req, res) -> assertEquals(0, filter.getAvailablePermits()));
+        assertEquals(1, filter.getAvailablePermits());
+    }
+    
+    @Test
+    public void testOpenStreamsDoNotUsePermits() throws Exception {
+        // More idle SSE subscribers than there are permits
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest stream = new MockHttpServletRequest("GET", "/api/events/stream");
+            stream.setAsyncSupported(true);
+            filter.doFilter(stream, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+        }
+        assertEquals(1, filter.getAvailablePermits());
+        
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/events"), response,
+                (req, res) -> ((MockHttpServletResponse) res).setStatus(200));
+        assertEquals(200, response.getStatus());
+    }
+}
@@ -0,0 +1,80 @@
+package com.eventplanner.security;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    private TokenDenyList tokenDenyList;
+
+    @BeforeEach
+    public void setUp() {
+        verifiedTokenCache = new VerifiedTokenCache(100);
+        tokenDenyList = new TokenDenyList(100);
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "test-secret-key-for-testing-purposes-only-at-least-256-bits");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 60000L);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedTokenCache", verifiedTokenCache);
+        ReflectionTestUtils.setField(jwtUtil, "tokenDenyList", tokenDenyList);
+        jwtUtil.init();
+    }
+
+    @Test
+    public void testVerifyTokenCachesClaims() {
+        UUID userId = UUID.randomUUID();
+        String token = jwtUtil.generateToken(userId, "test@example.com");
+
+        // First verification parses the token, second is served from the cache
+        Optional<Claims> first = jwtUtil.verifyToken(token);
+        Optional<Claims> second = jwtUtil.verifyToken(token);
+
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        assertEquals(userId, jwtUtil.getUserId(second.get()));
+        assertEquals("test@example.com", second.get().get("email", String.class));
+        assertEquals(1, verifiedTokenCache.stats().missCount());
+        assertEquals(1, verifiedTokenCache.stats().hitCount());
+    }
+
+    @Test
+    public void testInvalidTokenIsRejectedAndNotCached() {
+        String token = jwtUtil.generateToken(UUID.randomUUID(), "test@example.com");
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertFalse(jwtUtil.validateToken(tampered));
+        assertFalse(jwtUtil.validateToken("not-a-jwt"));
+        assertEquals(0, verifiedTokenCache.size());
+    }
+
+    @Test
+    public void testExpiredTokenIsRejected() {
+        ReflectionTestUtils.setField(jwtUtil, "expiration", -1000L);
+        String token = jwtUtil.generateToken(UUID.randomUUID(), "test@example.com");
+
+        assertFalse(jwtUtil.validateToken(token));
+    }
+
+    @Test
+    public void testRevokedTokenIsRejectedEvenWhenCached() {
+        String token = jwtUtil.generateToken(UUID.randomUUID(), "test@example.com");
+        String otherToken = jwtUtil.generateToken(UUID.randomUUID(), "other@example.com");
+        Claims claims = jwtUtil.verifyToken(token).orElseThrow();
+        assertNotNull(claims.getId());
+
+        tokenDenyList.revoke(claims.getId(), claims.getExpiration().getTime());
+
+        assertFalse(jwtUtil.validateToken(token));
+        assertTrue(jwtUtil.validateToken(otherToken));
+    }
+}
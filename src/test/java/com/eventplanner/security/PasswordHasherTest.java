@@ -0,0 +1,67 @@
+package com.eventplanner.security;
+
+import com.eventplanner.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordHasherTest {
+    
+    private PasswordHasher passwordHasher;
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    
+    @AfterEach
+    public void tearDown() {
+        passwordHasher.shutdown();
+    }
+    
+    @Test
+    public void testRejectsWorkWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        passwordHasher = new PasswordHasher(blockingEncoder, meterRegistry, 4, 1, 1, 2);
+        
+        // One running, one queued, the third is shed
+        CompletableFuture<Boolean> running = passwordHasher.matches("a", "hash");
+        CompletableFuture<Boolean> queued = passwordHasher.matches("b", "hash");
+        CompletableFuture<Boolean> shed = passwordHasher.matches("c", "hash");
+        assertEquals(1.0, meterRegistry.get("security.password.hashing.queued").gauge().value());
+        
+        CompletionException thrown = assertThrows(CompletionException.class, shed::join);
+        ServiceOverloadedException cause = assertInstanceOf(ServiceOverloadedException.class, thrown.getCause());
+        assertEquals(2, cause.getRetryAfterSeconds());
+        
+        release.countDown();
+        assertTrue(running.join());
+        assertTrue(queued.join());
+        assertEquals(2, meterRegistry.get("security.password.hashing").tag("operation", "matches").timer().count());
+    }
+    
+    @Test
+    public void testNeedsRehashWhenCostDiffers() {
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(5), meterRegistry, 5, 1, 10, 1);
+        
+        assertFalse(passwordHasher.needsRehash(new BCryptPasswordEncoder(5).encode("password123")));
+        assertTrue(passwordHasher.needsRehash(new BCryptPasswordEncoder(4).encode("password123")));
+        assertTrue(passwordHasher.needsRehash(new BCryptPasswordEncoder(6).encode("password123")));
+    }
+}
@@ -0,0 +1,88 @@
+package com.eventplanner.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimiterTest {
+    
+    @Test
+    public void testBucketAllowsBurstThenRefills() {
+        AtomicLong clock = new AtomicLong();
+        RateLimiter limiter = new RateLimiter(3, 1.0, 100, clock::get);
+        
+        // Full burst, then rejected until a token has refilled
+        assertEquals(2, limiter.tryConsume("a").getRemaining());
+        assertEquals(1, limiter.tryConsume("a").getRemaining());
+        assertEquals(0, limiter.tryConsume("a").getRemaining());
+        RateLimiter.Decision rejected = limiter.tryConsume("a");
+        assertFalse(rejected.isAllowed());
+        assertEquals(1, rejected.getRetryAfterSeconds());
+        assertEquals(3, rejected.getResetSeconds());
+        
+        // Other keys have their own bucket
+        assertTrue(limiter.tryConsume("b").isAllowed());
+        
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertTrue(limiter.tryConsume("a").isAllowed());
+        assertFalse(limiter.tryConsume("a").isAllowed());
+    }
+    
+    @Test
+    public void testConcurrentRequestsNeverExceedCapacity() throws InterruptedException {
+        RateLimiter limiter = new RateLimiter(500, 0.001, 100, () -> 0L);
+        AtomicInteger allowed = new AtomicInteger();
+        
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 2000; i++) {
+            executor.execute(() -> {
+                if (limiter.tryConsume("user").isAllowed()) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        
+        assertEquals(500, allowed.get());
+    }
+    
+    @Test
+    public void testFilterRejectsLoginFloodPerAddress() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(
+            new RateLimiter(2, 0.01, 100), new RateLimiter(100, 10, 100), new ObjectMapper().findAndRegisterModules());
+        
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletResponse response = login(filter, "10.0.0.1");
+            assertEquals(200, response.getStatus());
+            assertEquals("2", response.getHeader(RateLimitFilter.LIMIT_HEADER));
+            assertEquals(String.valueOf(1 - i), response.getHeader(RateLimitFilter.REMAINING_HEADER));
+        }
+        
+        MockHttpServletResponse rejected = login(filter, "10.0.0.1");
+        assertEquals(429, rejected.getStatus());
+        assertEquals("100", rejected.getHeader("Retry-After"));
+        assertTrue(rejected.getContentAsString().contains("RATE_LIMITED"));
+        
+        // A different client is unaffected
+        assertEquals(200, login(filter, "10.0.0.2").getStatus());
+    }
+    
+    private static MockHttpServletResponse login(RateLimitFilter filter, String remoteAddress) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(remoteAddress);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,52 @@
+package com.eventplanner.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenDenyListTest {
+    
+    private final TokenDenyList tokenDenyList = new TokenDenyList(1000);
+    
+    @Test
+    public void testRevokedUntilExpiry() throws InterruptedException {
+        String jti = UUID.randomUUID().toString();
+        tokenDenyList.revoke(jti, System.currentTimeMillis() + 200);
+        
+        assertTrue(tokenDenyList.isRevoked(jti));
+        assertFalse(tokenDenyList.isRevoked(UUID.randomUUID().toString()));
+        assertFalse(tokenDenyList.isRevoked(null));
+        
+        // The entry goes away on its own once the token would have expired
+        Thread.sleep(300);
+        assertFalse(tokenDenyList.isRevoked(jti));
+    }
+    
+    @Test
+    public void testAlreadyExpiredTokensAreIgnored() {
+        String jti = UUID.randomUUID().toString();
+        tokenDenyList.revoke(jti, System.currentTimeMillis() - 1);
+        
+        assertFalse(tokenDenyList.isRevoked(jti));
+        assertEquals(0, tokenDenyList.size());
+    }
+    
+    @Test
+    public void testRebuildKeepsLiveRevocations() {
+        // Well past the expected size, so the rebuilt filter has to grow
+        String[] jtis = new String[5000];
+        for (int i = 0; i < jtis.length; i++) {
+            jtis[i] = UUID.randomUUID().toString();
+            tokenDenyList.revoke(jtis[i], System.currentTimeMillis() + 60_000);
+        }
+        
+        tokenDenyList.rebuildFilter();
+        
+        for (String jti : jtis) {
+            assertTrue(tokenDenyList.isRevoked(jti));
+        }
+        assertFalse(tokenDenyList.isRevoked(UUID.randomUUID().toString()));
+    }
+}
@@ -0,0 +1,65 @@
+package com.eventplanner.service;
+
+import com.eventplanner.dto.LoginRequest;
+import com.eventplanner.entity.User;
+import com.eventplanner.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class AuthServiceTest {
+    
+    @Autowired
+    private AuthService authService;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Test
+    public void testConcurrentLoginsUpgradeTheHashOnce() throws Exception {
+        // A hash from before the cost factor was raised
+        User user = authService.createUser("rehash@example.com", "password123");
+        user.setPasswordHash(new BCryptPasswordEncoder(4).encode("password123"));
+        userRepository.save(user);
+        
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        
+        List<CompletableFuture<?>> logins = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            logins.add(authService.login(new LoginRequest("rehash@example.com", "password123")));
+        }
+        CompletableFuture.allOf(logins.toArray(CompletableFuture[]::new)).join();
+        
+        long deadline = System.currentTimeMillis() + 5000;
+        while (userRepository.findById(user.getId()).orElseThrow().getPasswordHash().startsWith("$2a$04$")
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        Thread.sleep(200);
+        
+        assertTrue(userRepository.findById(user.getId()).orElseThrow().getPasswordHash().startsWith("$2a$10$"));
+        assertEquals(1, statistics.getEntityUpdateCount());
+        
+        // The upgraded hash still verifies, and is not rehashed again
+        authService.login(new LoginRequest("rehash@example.com", "password123")).join();
+        Thread.sleep(200);
+        assertEquals(1, statistics.getEntityUpdateCount());
+    }
+}
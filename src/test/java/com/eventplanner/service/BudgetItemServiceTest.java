@@ -0,0 +1,95 @@
+package com.eventplanner.service;
+
+import com.eventplanner.dto.EventResponse;
+import com.eventplanner.entity.BudgetItem;
+import com.eventplanner.entity.Event;
+import com.eventplanner.entity.User;
+import com.eventplanner.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class BudgetItemServiceTest {
+    
+    @Autowired
+    private BudgetItemService budgetItemService;
+    
+    @Autowired
+    private EventService eventService;
+    
+    @Autowired
+    private AuthService authService;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    public void testAddThenDeleteReturnsSpentTotalToZero() {
+        Event event = createEvent("budget-add-delete@example.com");
+        UUID userId = event.getUserId();
+        
+        BudgetItem venue = budgetItemService.addItem(event.getId(), userId, newItem("Venue", "500.00"));
+        BudgetItem catering = budgetItemService.addItem(event.getId(), userId, newItem("Catering", "250.50"));
+        assertSpentTotal(event, "750.50");
+        
+        budgetItemService.deleteItem(event.getId(), venue.getId(), userId);
+        assertSpentTotal(event, "250.50");
+        budgetItemService.deleteItem(event.getId(), catering.getId(), userId);
+        assertSpentTotal(event, "0.00");
+        
+        // Deleting it again, or through someone else's account, finds nothing
+        assertThrows(ResourceNotFoundException.class,
+                () -> budgetItemService.deleteItem(event.getId(), catering.getId(), userId));
+        assertThrows(ResourceNotFoundException.class,
+                () -> budgetItemService.addItem(event.getId(), UUID.randomUUID(), newItem("Other", "1.00")));
+        assertSpentTotal(event, "0.00");
+    }
+    
+    @Test
+    public void testReconcileRepairsDriftedTotal() {
+        Event event = createEvent("budget-reconcile@example.com");
+        budgetItemService.addItem(event.getId(), event.getUserId(), newItem("Venue", "100.00"));
+        assertFalse(budgetItemService.reconcileEvent(event.getId()));
+        
+        // Drift written behind the application's back
+        jdbcTemplate.update("UPDATE events SET spent_total = 999.00 WHERE id = ?", event.getId());
+        
+        assertTrue(budgetItemService.reconcileEvent(event.getId()));
+        assertSpentTotal(event, "100.00");
+        assertFalse(budgetItemService.reconcileEvent(event.getId()));
+    }
+    
+    private Event createEvent(String email) {
+        User user = authService.createUser(email, "password123");
+        Event event = new Event();
+        event.setUserId(user.getId());
+        event.setTitle("Budget Event");
+        event.setDate(LocalDate.now().plusDays(3));
+        event.setBudget(new BigDecimal("1000.00"));
+        event.setAttendeeCount(10);
+        return eventService.createEvent(event);
+    }
+    
+    // Read through the service, so a missed cache eviction shows up as a stale total
+    private void assertSpentTotal(Event event, String expected) {
+        EventResponse current = eventService.getEventById(event.getId(), event.getUserId()).orElseThrow();
+        assertEquals(0, new BigDecimal(expected).compareTo(current.getSpentTotal()), current.getSpentTotal().toPlainString());
+    }
+    
+    private static BudgetItem newItem(String description, String amount) {
+        BudgetItem item = new BudgetItem();
+        item.setDescription(description);
+        item.setAmount(new BigDecimal(amount));
+        return item;
+    }
+}
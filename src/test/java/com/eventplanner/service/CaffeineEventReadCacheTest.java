@@ -0,0 +1,104 @@
+package com.eventplanner.service;
+
+import com.eventplanner.dto.EventResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CaffeineEventReadCacheTest {
+    
+    private final CaffeineEventReadCache cache = new CaffeineEventReadCache(100, 100, Duration.ofMinutes(5));
+    
+    @Test
+    public void testConcurrentMissesLoadOnce() throws InterruptedException {
+        UUID userId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        
+        // Eight concurrent dashboard loads for the same user
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                start.await();
+                return cache.getEventsByUserId(userId, id -> {
+                    loads.incrementAndGet();
+                    sleep(100);
+                    return List.of(event(id, "Cached Event"));
+                });
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.listStats().loadCount());
+        assertEquals(7, cache.listStats().hitCount());
+        assertTrue(cache.listStats().totalLoadTime() >= TimeUnit.MILLISECONDS.toNanos(100));
+    }
+    
+    @Test
+    public void testEvictDropsEventAndOwnersList() {
+        UUID userId = UUID.randomUUID();
+        EventResponse event = event(userId, "Cached Event");
+        cache.getEventsByUserId(userId, id -> List.of(event));
+        cache.getEventById(event.getId(), userId, id -> Optional.of(event));
+        
+        cache.evict(event.getId(), userId);
+        
+        // Both are reloaded
+        EventResponse renamed = event(event.getId(), userId, "Renamed Event");
+        assertEquals("Renamed Event", cache.getEventsByUserId(userId, id -> List.of(renamed)).get(0).getTitle());
+        assertEquals("Renamed Event", cache.getEventById(event.getId(), userId, id -> Optional.of(renamed))
+                .orElseThrow().getTitle());
+    }
+    
+    @Test
+    public void testEvictUserKeepsOtherUsers() {
+        UUID userId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+        cache.getEventsByUserId(userId, id -> List.of(event(id, "Mine")));
+        cache.getEventsByUserId(otherUserId, id -> List.of(event(id, "Theirs")));
+        
+        cache.evictUser(userId);
+        
+        assertTrue(cache.getEventsByUserId(userId, id -> List.of()).isEmpty());
+        assertEquals(1, cache.getEventsByUserId(otherUserId, id -> List.of()).size());
+    }
+    
+    @Test
+    public void testGetEventByIdChecksOwner() {
+        UUID userId = UUID.randomUUID();
+        EventResponse event = event(userId, "Cached Event");
+        cache.getEventById(event.getId(), userId, id -> Optional.of(event));
+        
+        Optional<EventResponse> notFound = cache.getEventById(event.getId(), UUID.randomUUID(), id -> Optional.empty());
+        assertFalse(notFound.isPresent());
+    }
+    
+    private static EventResponse event(UUID userId, String title) {
+        return event(UUID.randomUUID(), userId, title);
+    }
+    
+    private static EventResponse event(UUID id, UUID userId, String title) {
+        return new EventResponse(id, userId, title, null, null, null, null, null, null, null, 0L);
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
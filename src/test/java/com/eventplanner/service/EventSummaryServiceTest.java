@@ -0,0 +1,99 @@
+package com.eventplanner.service;
+
+import com.eventplanner.dto.EventSummaryResponse;
+import com.eventplanner.dto.EventSummaryVerification;
+import com.eventplanner.entity.Event;
+import com.eventplanner.entity.User;
+import com.eventplanner.entity.UserEventSummary;
+import com.eventplanner.repository.UserEventSummaryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class EventSummaryServiceTest {
+    
+    @Autowired
+    private EventSummaryService eventSummaryService;
+    
+    @Autowired
+    private UserEventSummaryRepository summaryRepository;
+    
+    @Autowired
+    private AuthService authService;
+    
+    @Autowired
+    private EventService eventService;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    public void testVerifyIsReadOnlyAndRebuildRepairsDrift() {
+        LocalDate today = LocalDate.now();
+        
+        // Correct as of yesterday: not yet rolled, but not drifted either
+        User stale = createUserWithEvent("summary-stale@example.com");
+        UserEventSummary staleRow = summaryRepository.findById(stale.getId()).orElseThrow();
+        staleRow.setAsOf(today.minusDays(1));
+        summaryRepository.save(staleRow);
+        
+        User drifted = createUserWithEvent("summary-drifted@example.com");
+        UserEventSummary driftedRow = summaryRepository.findById(drifted.getId()).orElseThrow();
+        driftedRow.setTotalBudget(new BigDecimal("1.00"));
+        summaryRepository.save(driftedRow);
+        
+        EventSummaryVerification verification = eventSummaryService.verify();
+        assertTrue(verification.getDriftedUserIds().contains(drifted.getId()));
+        assertFalse(verification.getDriftedUserIds().contains(stale.getId()));
+        assertEquals(today.minusDays(1), summaryRepository.findById(stale.getId()).orElseThrow().getAsOf());
+        assertEquals(0, new BigDecimal("1.00").compareTo(
+                summaryRepository.findById(drifted.getId()).orElseThrow().getTotalBudget()));
+        
+        EventSummaryVerification rebuilt = eventSummaryService.rebuild();
+        assertTrue(rebuilt.getRepairedUsers() >= 1);
+        assertEquals(0, new BigDecimal("100.00").compareTo(
+                summaryRepository.findById(drifted.getId()).orElseThrow().getTotalBudget()));
+        assertFalse(eventSummaryService.verify().getDriftedUserIds().contains(drifted.getId()));
+    }
+    
+    @Test
+    public void testSummaryCountsPassedEventsWithoutChangingTheRow() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        User user = createUserWithEvent("summary-passed@example.com");
+        
+        // The event took place yesterday and the row has not been rolled since
+        jdbcTemplate.update("UPDATE events SET date = ? WHERE user_id = ?", yesterday, user.getId());
+        UserEventSummary row = summaryRepository.findById(user.getId()).orElseThrow();
+        row.setAsOf(yesterday);
+        summaryRepository.save(row);
+        
+        EventSummaryResponse summary = eventSummaryService.getSummary(user.getId());
+        assertEquals(0, summary.getUpcomingEvents());
+        assertEquals(1, summary.getPastEvents());
+        
+        UserEventSummary stored = summaryRepository.findById(user.getId()).orElseThrow();
+        assertEquals(1, stored.getUpcomingEvents());
+        assertEquals(yesterday, stored.getAsOf());
+    }
+    
+    private User createUserWithEvent(String email) {
+        User user = authService.createUser(email, "password123");
+        Event event = new Event();
+        event.setUserId(user.getId());
+        event.setTitle("Summary Event");
+        event.setDate(LocalDate.now().plusDays(3));
+        event.setBudget(new BigDecimal("100.00"));
+        event.setAttendeeCount(10);
+        eventService.createEvent(event);
+        return user;
+    }
+}